@@ -1,5 +1,6 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -51,4 +52,27 @@ dependencies {
     testRuntimeOnly("org.springframework.boot:spring-boot-starter-actuator:2.5.+")
     testRuntimeOnly("org.springframework.boot:spring-boot-starter-test:2.5.+")
     testRuntimeOnly("org.springframework.boot:spring-boot-starter-web:2.5.+")
+
+    jmhRuntimeOnly("io.dropwizard.metrics:metrics-annotation:4.1.+")
+    jmhRuntimeOnly("io.dropwizard.metrics:metrics-healthchecks:4.1.+")
+    jmhRuntimeOnly("io.dropwizard:dropwizard-testing:1.3.29")
+    jmhRuntimeOnly("io.dropwizard:dropwizard-db:1.3.29")
+    jmhRuntimeOnly("io.dropwizard:dropwizard-hibernate:1.3.29")
+    jmhRuntimeOnly("jakarta.ws.rs:jakarta.ws.rs-api:2.1.6")
+}
+
+// ParallelExecutionTest only runs when given a number of files, e.g. `./gradlew test -PparallelExecutionTest.files=1000`
+tasks.named<Test>("test") {
+    (project.findProperty("parallelExecutionTest.files") as String?)?.let { systemProperty("parallelExecutionTest.files", it) }
+}
+
+// Run with e.g. `./gradlew jmh -Pjmh.includes=DropwizardRecipeBenchmark -Pjmh.files=500`
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+    // Reports allocation rate (gc.alloc.rate.norm) alongside throughput
+    profilers.add("gc")
+    (project.findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+    (project.findProperty("jmh.files") as String?)?.let { benchmarkParameters.put("files", objects.listProperty<String>().value(listOf(it))) }
 }
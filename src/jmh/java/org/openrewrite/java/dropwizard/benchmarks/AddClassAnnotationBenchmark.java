@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.benchmarks;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.dropwizard.annotation.AddClassAnnotationsByRules;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Adds {@code @Component} to the JAX-RS resources of a synthetic project in a single run over all files. With
+ * {@code templateCache} the annotation template is built once and kept in the execution context for the whole run;
+ * without it the context does not keep it, so the template is built again for every annotated class, as it was
+ * before {@link TemplateCache}. Both measure the same run, so the difference is the cost of building the templates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AddClassAnnotationBenchmark {
+
+    @Param({"100", "1000"})
+    int files;
+
+    @Param({"true", "false"})
+    boolean templateCache;
+
+    Recipe recipe;
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = new AddClassAnnotationsByRules(null,
+                singletonList("javax.ws.rs.Path=org.springframework.stereotype.Component"), null);
+        sourceFiles = SyntheticDropwizardProject.generate(files, new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    public RecipeRun run(DropwizardRecipeBenchmark.FileCounter counter) {
+        counter.files += sourceFiles.size();
+        return recipe.run(new InMemoryLargeSourceSet(sourceFiles),
+                templateCache ? new InMemoryExecutionContext() : new NoTemplateCacheExecutionContext());
+    }
+
+    /**
+     * Drops the templates {@link TemplateCache} keeps in the context, so that every lookup builds the template anew.
+     */
+    static class NoTemplateCacheExecutionContext extends InMemoryExecutionContext {
+        private static final String TEMPLATES = TemplateCache.class.getName() + ".templates";
+
+        @Override
+        public void putMessage(String key, @Nullable Object value) {
+            if (!TEMPLATES.equals(key)) {
+                super.putMessage(key, value);
+            }
+        }
+
+        @Override
+        public <V, T> T computeMessageIfAbsent(String key, Function<? super String, ? extends T> mappingFunction) {
+            return TEMPLATES.equals(key) ? mappingFunction.apply(key) : super.computeMessageIfAbsent(key, mappingFunction);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.dropwizard.general.RemoveVariablesByPackage;
+import org.openrewrite.java.dropwizard.method.ChangeSuperType;
+import org.openrewrite.java.dropwizard.test.TransformDropwizardRuleInvocations;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the Dropwizard recipes over a synthetic project. The {@code files} counter reports source files
+ * processed per second, and the {@code gc} profiler configured in the build reports the allocation rate.
+ * Forks, iterations and profilers are set in the {@code jmh} block of the build.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DropwizardRecipeBenchmark {
+
+    @Param({"100", "1000"})
+    int files;
+
+    @Param({
+            "MigrateDropwizardToSpringBoot",
+            "MigrateToDropwizard5",
+            "CodeCleanup",
+            "RemoveVariablesByPackage",
+            "TransformDropwizardRuleInvocations",
+            "ChangeSuperType"
+    })
+    String recipeName;
+
+    Recipe recipe;
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = recipe(recipeName);
+        sourceFiles = SyntheticDropwizardProject.generate(files, new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    public RecipeRun run(FileCounter counter) {
+        counter.files += sourceFiles.size();
+        // A fresh context per run, so caches kept in the execution context are measured as they are in production
+        return recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext());
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class FileCounter {
+        public long files;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            files = 0;
+        }
+    }
+
+    static Recipe recipe(String name) {
+        switch (name) {
+            case "RemoveVariablesByPackage":
+                return new RemoveVariablesByPackage("io.dropwizard", false);
+            case "TransformDropwizardRuleInvocations":
+                return new TransformDropwizardRuleInvocations();
+            case "ChangeSuperType":
+                return new ChangeSuperType("com.codahale.metrics.health.HealthCheck",
+                        "org.springframework.boot.actuate.health.HealthIndicator", false, true, true);
+            default:
+                return Environment.builder()
+                        .scanRuntimeClasspath("org.openrewrite.java.dropwizard")
+                        .build()
+                        .activateRecipes("org.openrewrite.java.dropwizard." + name);
+        }
+    }
+}
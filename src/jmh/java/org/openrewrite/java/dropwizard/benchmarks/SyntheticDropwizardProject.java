@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.yaml.YamlParser;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a Dropwizard 1.x style project of configurable size: an application, its configuration,
+ * and a rotating mix of resources, health checks, DAOs and rule based tests, plus a {@code config.yml}.
+ */
+final class SyntheticDropwizardProject {
+
+    private SyntheticDropwizardProject() {
+    }
+
+    static List<SourceFile> generate(int files, ExecutionContext ctx) {
+        List<String> sources = new ArrayList<>();
+        sources.add(application());
+        sources.add(configuration());
+        for (int i = 0; sources.size() < files - 1; i++) {
+            switch (i % 4) {
+                case 0:
+                    sources.add(resource(i));
+                    break;
+                case 1:
+                    sources.add(healthCheck(i));
+                    break;
+                case 2:
+                    sources.add(dao(i));
+                    break;
+                default:
+                    sources.add(ruleTest(i));
+                    break;
+            }
+        }
+
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+                .classpath(JavaParser.runtimeClasspath())
+                .build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(Collectors.toCollection(ArrayList::new));
+        new YamlParser()
+                .parse(ctx, config())
+                .map(yaml -> (SourceFile) yaml.withSourcePath(Paths.get("src/main/resources/config.yml")))
+                .forEach(sourceFiles::add);
+        return sourceFiles;
+    }
+
+    private static String application() {
+        return "package com.example;\n" +
+                "\n" +
+                "import io.dropwizard.Application;\n" +
+                "import io.dropwizard.setup.Environment;\n" +
+                "\n" +
+                "public class ExampleApplication extends Application<ExampleConfiguration> {\n" +
+                "    @Override\n" +
+                "    public void run(ExampleConfiguration configuration, Environment environment) {\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String configuration() {
+        return "package com.example;\n" +
+                "\n" +
+                "import io.dropwizard.Configuration;\n" +
+                "import io.dropwizard.db.DataSourceFactory;\n" +
+                "\n" +
+                "public class ExampleConfiguration extends Configuration {\n" +
+                "    private DataSourceFactory database = new DataSourceFactory();\n" +
+                "    private String name;\n" +
+                "\n" +
+                "    public String getName() {\n" +
+                "        return name;\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String resource(int i) {
+        return "package com.example.resources;\n" +
+                "\n" +
+                "import com.codahale.metrics.annotation.Timed;\n" +
+                "import io.dropwizard.jersey.params.LongParam;\n" +
+                "\n" +
+                "import javax.ws.rs.GET;\n" +
+                "import javax.ws.rs.Path;\n" +
+                "import javax.ws.rs.PathParam;\n" +
+                "\n" +
+                "@Path(\"/items" + i + "\")\n" +
+                "public class ItemResource" + i + " {\n" +
+                "    private final String prefix = \"item-\";\n" +
+                "\n" +
+                "    @GET\n" +
+                "    @Timed(name = \"items" + i + ".get\")\n" +
+                "    @Path(\"/{id}\")\n" +
+                "    public String get(@PathParam(\"id\") LongParam id) {\n" +
+                "        return prefix + id.get();\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String healthCheck(int i) {
+        return "package com.example.health;\n" +
+                "\n" +
+                "import com.codahale.metrics.health.HealthCheck;\n" +
+                "\n" +
+                "public class ExampleHealthCheck" + i + " extends HealthCheck {\n" +
+                "    @Override\n" +
+                "    protected Result check() throws Exception {\n" +
+                "        return Result.healthy();\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String dao(int i) {
+        return "package com.example.db;\n" +
+                "\n" +
+                "import io.dropwizard.hibernate.AbstractDAO;\n" +
+                "import org.hibernate.SessionFactory;\n" +
+                "\n" +
+                "public class ExampleDao" + i + " extends AbstractDAO<String> {\n" +
+                "    public ExampleDao" + i + "(SessionFactory sessionFactory) {\n" +
+                "        super(sessionFactory);\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String ruleTest(int i) {
+        return "package com.example.resources;\n" +
+                "\n" +
+                "import com.example.ExampleConfiguration;\n" +
+                "import io.dropwizard.testing.junit.DropwizardAppRule;\n" +
+                "import org.junit.ClassRule;\n" +
+                "import org.junit.Test;\n" +
+                "\n" +
+                "public class ItemResourceTest" + i + " {\n" +
+                "    @ClassRule\n" +
+                "    public static final DropwizardAppRule<ExampleConfiguration> RULE =\n" +
+                "            new DropwizardAppRule<>(null, \"config.yml\");\n" +
+                "\n" +
+                "    @Test\n" +
+                "    public void getsItem() {\n" +
+                "        String item = RULE.client().target(\"http://localhost:\" + RULE.getLocalPort() + \"/items" + i + "/1\")\n" +
+                "                .request()\n" +
+                "                .get(String.class);\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private static String config() {
+        return "server:\n" +
+                "  maxThreads: 1024\n" +
+                "  maxQueuedRequests: 1024\n" +
+                "  applicationConnectors:\n" +
+                "    - type: http\n" +
+                "      port: 8080\n" +
+                "database:\n" +
+                "  driverClass: org.postgresql.Driver\n" +
+                "  maxSize: 32\n" +
+                "logging:\n" +
+                "  level: INFO\n";
+    }
+}
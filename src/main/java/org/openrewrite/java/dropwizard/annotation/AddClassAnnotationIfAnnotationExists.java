@@ -22,6 +22,8 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -51,9 +53,11 @@ public class AddClassAnnotationIfAnnotationExists extends Recipe {
 
     String description = "Adds annotation if class has any of the specified target annotations.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new AddClassAnnotationVisitor(annotationToAdd, annotateInnerClasses) {
+        return RecipeVisitors.of(this, stats, new AddClassAnnotationVisitor(annotationToAdd, annotateInnerClasses) {
             @Override
             protected boolean shouldAddAnnotation(J.ClassDeclaration cd) {
                 return service(AnnotationService.class)
@@ -64,6 +68,6 @@ public class AddClassAnnotationIfAnnotationExists extends Recipe {
                             return type != null && targetAnnotationClassName.equals(type.getFullyQualifiedName());
                         });
             }
-        };
+        });
     }
 }
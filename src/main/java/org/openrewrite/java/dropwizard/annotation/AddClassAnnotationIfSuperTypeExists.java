@@ -22,6 +22,8 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -52,9 +54,11 @@ public class AddClassAnnotationIfSuperTypeExists extends Recipe {
 
     String description = "Adds annotation if class extends or implements any of the specified target types.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new AddClassAnnotationVisitor(annotationToAdd, annotateInnerClasses) {
+        return RecipeVisitors.of(this, stats, new AddClassAnnotationVisitor(annotationToAdd, annotateInnerClasses) {
             @Override
             protected boolean shouldAddAnnotation(J.ClassDeclaration cd) {
                 if (cd.getExtends() != null) {
@@ -71,7 +75,7 @@ public class AddClassAnnotationIfSuperTypeExists extends Recipe {
                 }
                 return false;
             }
-        };
+        });
     }
 
 }
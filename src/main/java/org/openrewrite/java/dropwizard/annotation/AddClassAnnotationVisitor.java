@@ -15,13 +15,13 @@
  */
 package org.openrewrite.java.dropwizard.annotation;
 
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.J.ClassDeclaration;
@@ -31,12 +31,20 @@ import static java.util.Comparator.comparing;
 import static org.openrewrite.java.JavaParser.fromJavaVersion;
 import static org.openrewrite.java.JavaParser.runtimeClasspath;
 
-@RequiredArgsConstructor
 public abstract class AddClassAnnotationVisitor extends JavaIsoVisitor<ExecutionContext> {
 
     private final String annotationText;
     @Nullable
     private final Boolean annotateSubclasses;
+    private final String annotationType;
+    private final AnnotationMatcher annotationMatcher;
+
+    protected AddClassAnnotationVisitor(String annotationText, @Nullable Boolean annotateSubclasses) {
+        this.annotationText = annotationText;
+        this.annotateSubclasses = annotateSubclasses;
+        this.annotationType = annotationType(annotationText);
+        this.annotationMatcher = new AnnotationMatcher(annotationType);
+    }
 
     protected abstract boolean shouldAddAnnotation(ClassDeclaration cd);
 
@@ -44,10 +52,7 @@ public abstract class AddClassAnnotationVisitor extends JavaIsoVisitor<Execution
     public ClassDeclaration visitClassDeclaration(ClassDeclaration classDeclaration, ExecutionContext ctx) {
         ClassDeclaration cd = super.visitClassDeclaration(classDeclaration, ctx);
 
-        // if annotation parameters are given as well
-        String annotationType = annotationText.split("[(<]")[0].trim();
-
-        if (service(AnnotationService.class).matches(getCursor(), new AnnotationMatcher(annotationType))) {
+        if (service(AnnotationService.class).matches(getCursor(), annotationMatcher)) {
             return cd;
         }
 
@@ -61,22 +66,37 @@ public abstract class AddClassAnnotationVisitor extends JavaIsoVisitor<Execution
             return cd;
         }
 
-        // Use the short annotation name in the template so the result is properly
-        // importable even when the type isn't on the recipe's runtime classpath.
-        String simpleAnnotation = annotationText.contains(".") ?
-                annotationText.substring(annotationText.lastIndexOf('.') + 1) :
-                annotationText;
-
-        ClassDeclaration updated = JavaTemplate.builder("@" + simpleAnnotation)
-                .javaParser(fromJavaVersion().classpath(runtimeClasspath()))
-                .imports(annotationType)
-                .build()
+        ClassDeclaration updated = annotationTemplate(annotationText, ctx)
                 .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
 
         maybeAddImport(annotationType, false); // this is a symptom of classpath based on runtime
         return maybeAutoFormat(cd, updated, ctx);
     }
 
+    static String annotationType(String annotationText) {
+        // if annotation parameters are given as well
+        return annotationText.split("[(<]")[0].trim();
+    }
+
+    /**
+     * Building a template resolves the runtime classpath, so it is done once per distinct annotation and run
+     * rather than once per annotated class.
+     */
+    static JavaTemplate annotationTemplate(String annotationText, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, AddClassAnnotationVisitor.class, annotationText, () -> {
+            // Use the short annotation name in the template so the result is properly
+            // importable even when the type isn't on the recipe's runtime classpath.
+            String simpleAnnotation = annotationText.contains(".") ?
+                    annotationText.substring(annotationText.lastIndexOf('.') + 1) :
+                    annotationText;
+
+            return JavaTemplate.builder("@" + simpleAnnotation)
+                    .javaParser(fromJavaVersion().classpath(runtimeClasspath()))
+                    .imports(annotationType(annotationText))
+                    .build();
+        });
+    }
+
     private boolean shouldAddAnnotationToAnyParentClass() {
         Cursor cursor = getCursor();
         while (true) {
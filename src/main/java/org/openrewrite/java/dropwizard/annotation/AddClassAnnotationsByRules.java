@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class AddClassAnnotationsByRules extends Recipe {
+
+    private static final String RULE_SEPARATOR = "=";
+
+    @Option(displayName = "Supertype rules",
+            description = "Rules of the form `supertype=annotation`. Classes that extend or implement the fully qualified supertype get the annotation.",
+            example = "io.dropwizard.Configuration=org.springframework.context.annotation.Configuration",
+            required = false)
+    @Nullable
+    List<String> supertypeRules;
+
+    @Option(displayName = "Annotation rules",
+            description = "Rules of the form `annotation=annotation`. Classes annotated with the fully qualified annotation on the left get the annotation on the right.",
+            example = "javax.ws.rs.Path=org.springframework.stereotype.Component",
+            required = false)
+    @Nullable
+    List<String> annotationRules;
+
+    @Option(displayName = "Inner class annotations",
+            description = "Annotations added by the rules that should also be added to the inner classes of a matched class.",
+            example = "lombok.Data",
+            required = false)
+    @Nullable
+    List<String> innerClassAnnotations;
+
+    String displayName = "Add class annotations by supertype and annotation rules";
+
+    String description = "Adds annotations to classes based on a table of rules, matching each class against all " +
+            "supertype and annotation triggers in a single visit.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate()
+                .and(Validated.test("supertypeRules", "Rules must be of the form `trigger=annotation`",
+                        supertypeRules, AddClassAnnotationsByRules::isWellFormed))
+                .and(Validated.test("annotationRules", "Rules must be of the form `trigger=annotation`",
+                        annotationRules, AddClassAnnotationsByRules::isWellFormed));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<String, List<String>> bySupertype = index(supertypeRules);
+        Map<String, List<String>> byAnnotation = index(annotationRules);
+        Set<String> forInnerClasses = innerClassAnnotations == null ?
+                Collections.emptySet() :
+                new HashSet<>(innerClassAnnotations);
+
+        return RecipeVisitors.of(this, stats, new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+
+                Set<String> annotationsToAdd = new LinkedHashSet<>(matchingAnnotations(cd, getCursor()));
+                for (Cursor c = getCursor().getParent(); c != null; c = c.getParent()) {
+                    if (c.getValue() instanceof J.ClassDeclaration) {
+                        for (String annotation : matchingAnnotations(c.getValue(), c)) {
+                            if (forInnerClasses.contains(annotation)) {
+                                annotationsToAdd.add(annotation);
+                            }
+                        }
+                    }
+                }
+
+                // Check what is already present while the cursor still points at the visited class
+                AnnotationService annotationService = service(AnnotationService.class);
+                annotationsToAdd.removeIf(annotation -> annotationService.matches(getCursor(),
+                        new AnnotationMatcher(AddClassAnnotationVisitor.annotationType(annotation))));
+                if (annotationsToAdd.isEmpty()) {
+                    return cd;
+                }
+
+                J.ClassDeclaration updated = cd;
+                for (String annotation : annotationsToAdd) {
+                    updated = AddClassAnnotationVisitor.annotationTemplate(annotation, ctx)
+                            .apply(updateCursor(updated), updated.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
+                    maybeAddImport(AddClassAnnotationVisitor.annotationType(annotation), false);
+                }
+                return maybeAutoFormat(cd, updated, ctx);
+            }
+
+            private List<String> matchingAnnotations(J.ClassDeclaration cd, Cursor cursor) {
+                List<String> matches = new ArrayList<>();
+                if (!bySupertype.isEmpty()) {
+                    if (cd.getExtends() != null) {
+                        addMatches(bySupertype, cd.getExtends().getType(), matches);
+                    }
+                    if (cd.getImplements() != null) {
+                        for (TypeTree impl : cd.getImplements()) {
+                            addMatches(bySupertype, impl.getType(), matches);
+                        }
+                    }
+                }
+                if (!byAnnotation.isEmpty()) {
+                    for (J.Annotation annotation : service(AnnotationService.class).getAllAnnotations(cursor)) {
+                        addMatches(byAnnotation, annotation.getType(), matches);
+                    }
+                }
+                return matches;
+            }
+
+            private void addMatches(Map<String, List<String>> rules, @Nullable JavaType type, List<String> matches) {
+                JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+                if (fq != null) {
+                    matches.addAll(rules.getOrDefault(fq.getFullyQualifiedName(), emptyList()));
+                }
+            }
+        });
+    }
+
+    private static Map<String, List<String>> index(@Nullable List<String> rules) {
+        if (rules == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> index = new HashMap<>();
+        for (String rule : rules) {
+            int separator = rule.indexOf(RULE_SEPARATOR);
+            if (separator <= 0) {
+                continue;
+            }
+            index.computeIfAbsent(rule.substring(0, separator).trim(), k -> new ArrayList<>())
+                    .add(rule.substring(separator + 1).trim());
+        }
+        return index;
+    }
+
+    private static boolean isWellFormed(@Nullable List<String> rules) {
+        if (rules == null) {
+            return true;
+        }
+        for (String rule : rules) {
+            int separator = rule.indexOf(RULE_SEPARATOR);
+            if (separator <= 0 || separator == rule.length() - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class AddTimedPercentiles extends Recipe {
+
+    private static final String MICROMETER_TIMED = "io.micrometer.core.annotation.Timed";
+
+    // Micrometer is not on the parser classpath of this module
+    private static final String MICROMETER_TIMED_STUB = "package io.micrometer.core.annotation;\n" +
+            "public @interface Timed {\n" +
+            "    String value() default \"\";\n" +
+            "    String[] extraTags() default {};\n" +
+            "    boolean longTask() default false;\n" +
+            "    double[] percentiles() default {};\n" +
+            "    boolean histogram() default false;\n" +
+            "    String description() default \"\";\n" +
+            "}";
+
+    @Option(displayName = "Percentiles",
+            description = "Percentiles to publish for each timer, computed in the application. Dropwizard timers " +
+                    "report the 50th, 75th, 95th, 98th, 99th and 99.9th percentiles. Each percentile adds a gauge per timer.",
+            example = "0.5, 0.95, 0.99",
+            required = false)
+    @Nullable
+    List<Double> percentiles;
+
+    @Option(displayName = "Publish histogram",
+            description = "Whether to publish histogram buckets for each timer, so that percentiles can be aggregated " +
+                    "across instances by the monitoring system. Adds roughly 70 time series per timer.",
+            required = false)
+    @Nullable
+    Boolean histogram;
+
+    String displayName = "Add percentiles to Micrometer `@Timed` annotations";
+
+    String description = "Dropwizard timers always keep a histogram and report percentiles, while a bare Micrometer " +
+            "`@Timed` only publishes count, total and max. Adds the configured `percentiles` and `histogram` " +
+            "attributes to `@Timed` annotations which set neither, such as those produced by " +
+            "`CodahaleTimedToMicrometerTimed`. `MigrateHealthChecksAndMetrics` runs it with the percentiles Dropwizard reports.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate()
+                .and(Validated.test("percentiles", "Percentiles must be between 0 and 1",
+                        percentiles, AddTimedPercentiles::isWellFormed))
+                .and(Validated.test("histogram", "Either percentiles or a histogram must be requested",
+                        histogram, h -> Boolean.TRUE.equals(h) || percentiles != null && !percentiles.isEmpty()));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeVisitors.of(this, stats, new UsesType<>(MICROMETER_TIMED, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation a = super.visitAnnotation(annotation, ctx);
+                if (!TypeUtils.isOfClassType(a.getType(), MICROMETER_TIMED)) {
+                    return a;
+                }
+
+                List<String> attributes = new ArrayList<>();
+                List<Expression> parameters = new ArrayList<>();
+                if (a.getArguments() != null) {
+                    for (Expression argument : a.getArguments()) {
+                        if (argument instanceof J.Empty) {
+                            continue;
+                        }
+                        if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier) {
+                            String name = ((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName();
+                            if ("percentiles".equals(name) || "histogram".equals(name)) {
+                                // An explicit distribution setting wins over the recipe defaults
+                                return a;
+                            }
+                            attributes.add(name + " = #{any()}");
+                            parameters.add(((J.Assignment) argument).getAssignment());
+                        } else {
+                            attributes.add("value = #{any(java.lang.String)}");
+                            parameters.add(argument);
+                        }
+                    }
+                }
+                if (percentiles != null && !percentiles.isEmpty()) {
+                    attributes.add("percentiles = {" + percentiles.stream().map(String::valueOf).collect(joining(", ")) + "}");
+                }
+                if (Boolean.TRUE.equals(histogram)) {
+                    attributes.add("histogram = true");
+                }
+                String code = "@Timed(" + String.join(", ", attributes) + ")";
+                return template(code, ctx).apply(updateCursor(a), a.getCoordinates().replace(), parameters.toArray());
+            }
+        });
+    }
+
+    private static boolean isWellFormed(@Nullable List<Double> percentiles) {
+        if (percentiles == null) {
+            return true;
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile < 0 || percentile > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, AddTimedPercentiles.class, code, () -> JavaTemplate.builder(code)
+                .imports(MICROMETER_TIMED)
+                .javaParser(JavaParser.fromJavaVersion().dependsOn(MICROMETER_TIMED_STUB))
+                .build());
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class CodahaleMeteredToMicrometerCounted extends Recipe {
+
+    private static final String METERED = "com.codahale.metrics.annotation.Metered";
+    private static final String EXCEPTION_METERED = "com.codahale.metrics.annotation.ExceptionMetered";
+    private static final String COUNTED = "com.codahale.metrics.annotation.Counted";
+    private static final String MICROMETER_COUNTED = "io.micrometer.core.annotation.Counted";
+
+    // Micrometer is not on the parser classpath of this module
+    private static final String MICROMETER_COUNTED_STUB = "package io.micrometer.core.annotation;\n" +
+            "public @interface Counted {\n" +
+            "    String value() default \"\";\n" +
+            "    boolean recordFailuresOnly() default false;\n" +
+            "    String[] extraTags() default {};\n" +
+            "    String description() default \"\";\n" +
+            "}";
+
+    String displayName = "Replace `@Metered`, `@ExceptionMetered` and `@Counted` (Dropwizard) with `@Counted` (Micrometer)";
+
+    String description = "Replaces Dropwizard's `@Metered` and `@Counted` annotations with Micrometer's `@Counted`, and " +
+            "`@ExceptionMetered` with `@Counted(recordFailuresOnly = true)`, preserving name (mapped to value) and " +
+            "description. Names are prefixed with the class name unless `absolute = true`, as Dropwizard does. Micrometer " +
+            "tags each count with its result and exception, so an `@ExceptionMetered` next to `@Metered` or `@Counted` " +
+            "is merged into a single `@Counted`. Annotations on types and constructors, which Micrometer does not " +
+            "support, are marked. Dropwizard's `@Counted` also counts down when a call returns unless `monotonic = true`; " +
+            "such annotations are marked and their files left unchanged.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeVisitors.of(this, stats,
+                Preconditions.or(
+                        new UsesType<>(METERED, false),
+                        new UsesType<>(EXCEPTION_METERED, false),
+                        new UsesType<>(COUNTED, false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        // Micrometer's @Counted would clash with the Dropwizard @Counted left in place
+                        J.CompilationUnit marked = (J.CompilationUnit) new MarkNonMonotonicCounted().visitNonNull(cu, ctx);
+                        return marked != cu ? marked : super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                        J.Annotation a = super.visitAnnotation(annotation, ctx);
+                        Object annotated = getCursor().getParentTreeCursor().getValue();
+                        if (isDropwizard(a) && !(annotated instanceof J.MethodDeclaration &&
+                                                 !((J.MethodDeclaration) annotated).isConstructor())) {
+                            return SearchResult.found(a, "Micrometer @Counted can only annotate methods");
+                        }
+                        return a;
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        List<J.Annotation> dropwizard = m.getLeadingAnnotations().stream()
+                                .filter(CodahaleMeteredToMicrometerCounted::isDropwizard)
+                                .collect(toList());
+                        if (m.isConstructor() || dropwizard.isEmpty()) {
+                            return m;
+                        }
+
+                        // Keep one annotation, preferring one that counts every call over failures only
+                        J.Annotation kept = dropwizard.stream()
+                                .filter(a -> !TypeUtils.isOfClassType(a.getType(), EXCEPTION_METERED))
+                                .findFirst()
+                                .orElse(dropwizard.get(0));
+                        List<J.Annotation> annotations = ListUtils.map(m.getLeadingAnnotations(),
+                                a -> a == kept || !isDropwizard(a) ? a : null);
+                        if (!annotations.isEmpty() && annotations.get(0) != m.getLeadingAnnotations().get(0)) {
+                            annotations = ListUtils.mapFirst(annotations, a -> a.withPrefix(m.getLeadingAnnotations().get(0).getPrefix()));
+                        }
+                        J.MethodDeclaration withKept = m.withLeadingAnnotations(annotations);
+                        J.Annotation keptAnnotation = withKept.getLeadingAnnotations().stream()
+                                .filter(a -> a.getId().equals(kept.getId()))
+                                .findFirst()
+                                .orElse(kept);
+
+                        maybeRemoveImport(METERED);
+                        maybeRemoveImport(EXCEPTION_METERED);
+                        maybeRemoveImport(COUNTED);
+                        maybeAddImport(MICROMETER_COUNTED, false);
+                        J.ClassDeclaration owner = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        return replace(withKept, keptAnnotation, owner == null || owner.getType() == null ?
+                                null : owner.getType().getFullyQualifiedName(), ctx);
+                    }
+
+                    private J.MethodDeclaration replace(J.MethodDeclaration m, J.Annotation annotation, @Nullable String owner,
+                                                        ExecutionContext ctx) {
+                        Map<String, Expression> arguments = arguments(annotation);
+
+                        List<String> attributes = new ArrayList<>();
+                        List<Expression> parameters = new ArrayList<>();
+                        String name = null;
+                        if (arguments.containsKey("name")) {
+                            name = name(arguments.get("name"), isTrue(arguments.get("absolute")) ? null : owner, parameters);
+                            attributes.add("value = " + name);
+                        }
+                        if (TypeUtils.isOfClassType(annotation.getType(), EXCEPTION_METERED)) {
+                            attributes.add("recordFailuresOnly = true");
+                        }
+                        if (arguments.containsKey("description")) {
+                            attributes.add("description = #{any(java.lang.String)}");
+                            parameters.add(arguments.get("description"));
+                        }
+
+                        String code = "@Counted";
+                        if (attributes.size() == 1 && name != null) {
+                            code += "(" + name + ")";
+                        } else if (!attributes.isEmpty()) {
+                            code += "(" + String.join(", ", attributes) + ")";
+                        }
+                        return template(code, ctx).apply(updateCursor(m), annotation.getCoordinates().replace(), parameters.toArray());
+                    }
+                });
+    }
+
+    /**
+     * Dropwizard registers the name under the class name unless it is absolute.
+     */
+    private static String name(Expression name, @Nullable String owner, List<Expression> parameters) {
+        if (owner == null) {
+            parameters.add(name);
+            return "#{any(java.lang.String)}";
+        }
+        if (name instanceof J.Literal && ((J.Literal) name).getValue() instanceof String) {
+            J.Literal literal = (J.Literal) name;
+            String valueSource = literal.getValueSource();
+            if (valueSource != null && valueSource.startsWith("\"") && !valueSource.startsWith("\"\"\"")) {
+                parameters.add(literal.withValue(owner + "." + literal.getValue())
+                        .withValueSource("\"" + owner + "." + valueSource.substring(1)));
+                return "#{any(java.lang.String)}";
+            }
+        }
+        parameters.add(name);
+        return "\"" + owner + ".\" + #{any(java.lang.String)}";
+    }
+
+    private static Map<String, Expression> arguments(J.Annotation annotation) {
+        Map<String, Expression> arguments = new HashMap<>();
+        for (Expression argument : annotation.getArguments() == null ?
+                Collections.<Expression>emptyList() : annotation.getArguments()) {
+            if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier) {
+                arguments.put(((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName(),
+                        ((J.Assignment) argument).getAssignment());
+            }
+        }
+        return arguments;
+    }
+
+    private static boolean isTrue(@Nullable Expression expression) {
+        return expression instanceof J.Literal && Boolean.TRUE.equals(((J.Literal) expression).getValue());
+    }
+
+    private static boolean isNonMonotonicCounted(J.Annotation annotation) {
+        return TypeUtils.isOfClassType(annotation.getType(), COUNTED) && !isTrue(arguments(annotation).get("monotonic"));
+    }
+
+    private static boolean isDropwizard(J.Annotation annotation) {
+        return TypeUtils.isOfClassType(annotation.getType(), METERED) ||
+               TypeUtils.isOfClassType(annotation.getType(), EXCEPTION_METERED) ||
+               TypeUtils.isOfClassType(annotation.getType(), COUNTED);
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, CodahaleMeteredToMicrometerCounted.class, code, () -> JavaTemplate.builder(code)
+                .imports(MICROMETER_COUNTED)
+                .javaParser(JavaParser.fromJavaVersion().dependsOn(MICROMETER_COUNTED_STUB))
+                .build());
+    }
+
+    private static class MarkNonMonotonicCounted extends JavaIsoVisitor<ExecutionContext> {
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            J.Annotation a = super.visitAnnotation(annotation, ctx);
+            return isNonMonotonicCounted(a) ?
+                    SearchResult.found(a, "Counts calls in progress, Micrometer @Counted only counts up") :
+                    a;
+        }
+    }
+}
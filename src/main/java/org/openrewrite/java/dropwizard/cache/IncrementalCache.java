@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.cache;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.OptionDescriptor;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * An opt-in, local on-disk record of the source files that a recipe of this module visited without
+ * changing them, so that later runs can skip visiting them again. Entries are keyed by a hash of the
+ * module version, the recipe and its options, the path and content of the source file and, for Java
+ * sources, the types the file uses and the classpath of its source set. Each entry is an empty file
+ * whose modification time is its last use; once the directory holds more than the maximum number of
+ * entries, the least recently used ones are deleted.
+ * <p>
+ * Only recipes whose result for a source file depends on nothing but that file may use the cache; see
+ * {@link #skipUnchanged(Recipe, TreeVisitor)}.
+ * <p>
+ * The cache is enabled by setting the {@value #DIRECTORY_PROPERTY} system property to a directory, and
+ * bounded by {@value #MAX_ENTRIES_PROPERTY} (default {@value #DEFAULT_MAX_ENTRIES}).
+ */
+public class IncrementalCache {
+
+    public static final String DIRECTORY_PROPERTY = "rewrite.dropwizard.cache.dir";
+    public static final String MAX_ENTRIES_PROPERTY = "rewrite.dropwizard.cache.maxEntries";
+    static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private static final String MODULE_VERSION = moduleVersion();
+    private static final String CLASSPATH_HASHES = IncrementalCache.class.getName() + ".classpathHashes";
+    private static final String CONTENT_HASHES = IncrementalCache.class.getName() + ".contentHashes";
+    private static final Map<Path, IncrementalCache> OPEN = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final int maxEntries;
+    private final AtomicInteger entries;
+
+    IncrementalCache(Path directory, int maxEntries) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxEntries = maxEntries;
+        try (Stream<Path> files = Files.list(directory)) {
+            this.entries = new AtomicInteger((int) files.count());
+        }
+    }
+
+    /**
+     * @return the cache configured by system properties, or {@code null} when it is not enabled or
+     * its directory cannot be used.
+     */
+    public static @Nullable IncrementalCache fromSystemProperties() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+        int maxEntries = Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES);
+        return OPEN.computeIfAbsent(Paths.get(directory).toAbsolutePath(), dir -> {
+            try {
+                return new IncrementalCache(dir, maxEntries);
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Wraps the edit visitor of a recipe so that source files the cache knows it leaves unchanged are not
+     * visited. The visitor is returned as is when the cache is not enabled, and for scanning recipes, whose
+     * edits depend on what they found in other source files: a file can only be skipped when its own
+     * content decides the result. Recipes apply it inside their precondition through
+     * {@link org.openrewrite.java.dropwizard.general.RecipeVisitors}, so files the precondition rejects are not keyed.
+     */
+    public static TreeVisitor<?, ExecutionContext> skipUnchanged(Recipe recipe, TreeVisitor<?, ExecutionContext> visitor) {
+        IncrementalCache cache = fromSystemProperties();
+        if (cache == null || recipe instanceof ScanningRecipe) {
+            return visitor;
+        }
+        String recipeKey = recipeKey(recipe);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx, getCursor());
+                }
+                String key = key(recipeKey, (SourceFile) tree, ctx);
+                if (cache.isUnchanged(key)) {
+                    return tree;
+                }
+                Tree result = visitor.visit(tree, ctx, getCursor());
+                if (result == tree) {
+                    cache.recordUnchanged(key);
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * The part of the key that identifies a configured recipe. Compute it once per visitor, not per source file.
+     */
+    static String recipeKey(Recipe recipe) {
+        StringBuilder key = new StringBuilder(recipe.getName());
+        for (OptionDescriptor option : recipe.getDescriptor().getOptions()) {
+            key.append('\n').append(option.getName()).append('=').append(option.getValue());
+        }
+        return key.toString();
+    }
+
+    static String key(String recipeKey, SourceFile sourceFile, ExecutionContext ctx) {
+        return hash(MODULE_VERSION + '\0' + recipeKey + '\0' + contentHash(sourceFile, ctx));
+    }
+
+    /**
+     * Hashes the source file once per run and version of the file, for all the recipes keying it. An edited
+     * source file keeps its id, so the hash is only reused for the very tree it was computed from.
+     */
+    private static String contentHash(SourceFile sourceFile, ExecutionContext ctx) {
+        Map<UUID, ContentHash> contentHashes = ctx.computeMessageIfAbsent(CONTENT_HASHES, k -> new ConcurrentHashMap<>());
+        ContentHash contentHash = contentHashes.get(sourceFile.getId());
+        if (contentHash == null || contentHash.getSourceFile() != sourceFile) {
+            contentHash = new ContentHash(sourceFile, hash(content(sourceFile, ctx)));
+            contentHashes.put(sourceFile.getId(), contentHash);
+        }
+        return contentHash.getHash();
+    }
+
+    private static String content(SourceFile sourceFile, ExecutionContext ctx) {
+        StringBuilder key = new StringBuilder()
+                .append(sourceFile.getSourcePath()).append('\0')
+                .append(sourceFile.printAll());
+        if (sourceFile instanceof JavaSourceFile) {
+            // The same text attributes differently when the types it uses, or the classpath, change
+            JavaSourceFile javaSource = (JavaSourceFile) sourceFile;
+            key.append('\0').append(sorted(javaSource.getTypesInUse().getTypesInUse()))
+                    .append('\0').append(sorted(javaSource.getTypesInUse().getUsedMethods()));
+            JavaSourceSet sourceSet = javaSource.getMarkers().findFirst(JavaSourceSet.class).orElse(null);
+            if (sourceSet != null) {
+                Map<UUID, String> classpathHashes = ctx.computeMessageIfAbsent(CLASSPATH_HASHES, k -> new ConcurrentHashMap<>());
+                key.append('\0').append(classpathHashes.computeIfAbsent(sourceSet.getId(),
+                        id -> hash(sourceSet.getName() + '\0' + sorted(sourceSet.getClasspath()))));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return whether the recipe is known to leave the source file with this key unchanged.
+     */
+    public boolean isUnchanged(String key) {
+        Path entry = directory.resolve(key);
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            // No such entry, or it was evicted concurrently
+            return false;
+        }
+    }
+
+    public void recordUnchanged(String key) {
+        try {
+            Files.createFile(directory.resolve(key));
+        } catch (IOException e) {
+            // Already recorded by another run, or the directory is not writable; either way nothing to do
+            return;
+        }
+        if (entries.incrementAndGet() > maxEntries) {
+            evict();
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries, down to 90% of the maximum so that eviction does not
+     * run again on every subsequent write.
+     */
+    private synchronized void evict() {
+        if (entries.get() <= maxEntries) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.collect(Collectors.toList());
+        } catch (IOException e) {
+            return;
+        }
+        files.sort(comparing(IncrementalCache::lastUsed));
+        int remaining = files.size();
+        for (Path file : files) {
+            if (remaining <= maxEntries * 9L / 10) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file);
+                remaining--;
+            } catch (IOException ignored) {
+                // Retried on the next eviction
+            }
+        }
+        entries.set(remaining);
+    }
+
+    private static long lastUsed(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every JVM", e);
+        }
+    }
+
+    private static String sorted(Collection<? extends JavaType> types) {
+        return types.stream().map(String::valueOf).sorted().collect(Collectors.joining(","));
+    }
+
+    @Value
+    private static class ContentHash {
+        SourceFile sourceFile;
+        String hash;
+    }
+
+    private static String moduleVersion() {
+        String version = IncrementalCache.class.getPackage().getImplementationVersion();
+        return version == null ? "development" : version;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.SourceFile;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Reads Dropwizard YAML configuration files, and writes the equivalent Spring Boot
+ * {@code application.properties} or code of the same module.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DropwizardConfiguration {
+
+    private static final String MAIN_RESOURCES = "src/main/resources";
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*([a-zA-Z]+)");
+    private static final Pattern ENVIRONMENT_DEFAULT = Pattern.compile("\\$\\{([^}:]+):-([^}]*)}");
+    private static final Map<String, String> DURATION_UNITS = new HashMap<>();
+    private static final Map<String, TimeUnit> TIME_UNITS = new HashMap<>();
+
+    // Keys of Dropwizard's server, logging and metrics factories, which other YAML files rarely share
+    private static final Map<String, Set<String>> DROPWIZARD_SECTIONS = new HashMap<>();
+    private static final String DATA_SOURCE_KEY = "driverClass";
+
+    static {
+        DROPWIZARD_SECTIONS.put("server", new HashSet<>(Arrays.asList("type", "applicationConnectors", "adminConnectors",
+                "connector", "applicationContextPath", "adminContextPath", "rootPath", "maxThreads", "minThreads",
+                "maxQueuedRequests", "idleThreadTimeout", "enableVirtualThreads", "requestLog", "gzip", "shutdownGracePeriod")));
+        DROPWIZARD_SECTIONS.put("logging", new HashSet<>(Arrays.asList("level", "loggers", "appenders")));
+        DROPWIZARD_SECTIONS.put("metrics", new HashSet<>(Arrays.asList("frequency", "reporters")));
+
+        for (String unit : new String[]{"ns", "nanosecond", "nanoseconds"}) {
+            DURATION_UNITS.put(unit, "ns");
+        }
+        for (String unit : new String[]{"us", "microsecond", "microseconds"}) {
+            DURATION_UNITS.put(unit, "us");
+        }
+        for (String unit : new String[]{"ms", "millisecond", "milliseconds"}) {
+            DURATION_UNITS.put(unit, "ms");
+        }
+        for (String unit : new String[]{"s", "second", "seconds"}) {
+            DURATION_UNITS.put(unit, "s");
+        }
+        for (String unit : new String[]{"m", "min", "mins", "minute", "minutes"}) {
+            DURATION_UNITS.put(unit, "m");
+        }
+        for (String unit : new String[]{"h", "hour", "hours"}) {
+            DURATION_UNITS.put(unit, "h");
+        }
+        for (String unit : new String[]{"d", "day", "days"}) {
+            DURATION_UNITS.put(unit, "d");
+        }
+        TIME_UNITS.put("ns", TimeUnit.NANOSECONDS);
+        TIME_UNITS.put("us", TimeUnit.MICROSECONDS);
+        TIME_UNITS.put("ms", TimeUnit.MILLISECONDS);
+        TIME_UNITS.put("s", TimeUnit.SECONDS);
+        TIME_UNITS.put("m", TimeUnit.MINUTES);
+        TIME_UNITS.put("h", TimeUnit.HOURS);
+        TIME_UNITS.put("d", TimeUnit.DAYS);
+    }
+
+    static boolean isApplicationProperties(SourceFile sourceFile) {
+        return sourceFile instanceof Properties.File &&
+                sourceFile.getSourcePath().endsWith(MAIN_RESOURCES + "/application.properties");
+    }
+
+    /**
+     * Dropwizard configuration files have no fixed name, so they are recognized by a top-level {@code server},
+     * {@code logging} or {@code metrics} section with keys of Dropwizard's factories, or a section configuring
+     * a data source. Spring's own {@code application} and {@code bootstrap} configuration never is one.
+     */
+    public static boolean isDropwizardConfiguration(Yaml.Documents yaml) {
+        Path fileName = yaml.getSourcePath().getFileName();
+        String name = fileName == null ? "" : fileName.toString();
+        if (name.startsWith("application") || name.startsWith("bootstrap")) {
+            return false;
+        }
+        for (Yaml.Document document : yaml.getDocuments()) {
+            if (!(document.getBlock() instanceof Yaml.Mapping)) {
+                continue;
+            }
+            for (Yaml.Mapping.Entry section : ((Yaml.Mapping) document.getBlock()).getEntries()) {
+                if (!(section.getValue() instanceof Yaml.Mapping)) {
+                    continue;
+                }
+                Set<String> keys = DROPWIZARD_SECTIONS.getOrDefault(section.getKey().getValue(), emptySet());
+                for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) section.getValue()).getEntries()) {
+                    String key = entry.getKey().getValue();
+                    if (keys.contains(key) || DATA_SOURCE_KEY.equals(key)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The directory of the module a file belongs to: the directory containing {@code src/main} for sources
+     * and resources, or else the directory of the file itself, where Dropwizard configuration usually lives.
+     */
+    static Path moduleRoot(Path sourcePath) {
+        Path normalized = sourcePath.normalize();
+        for (int i = 0; i + 2 < normalized.getNameCount(); i++) {
+            if ("src".equals(normalized.getName(i).toString()) &&
+                    "main".equals(normalized.getName(i + 1).toString())) {
+                return i == 0 ? normalized.getFileSystem().getPath("") : normalized.subpath(0, i);
+            }
+        }
+        Path parent = normalized.getParent();
+        return parent == null ? normalized.getFileSystem().getPath("") : parent;
+    }
+
+    /**
+     * Flattens the scalar values of a YAML file to dotted keys, with sequence entries indexed like
+     * {@code server.applicationConnectors[0].port}. Later documents override earlier ones.
+     */
+    static Map<String, String> flatten(Yaml.Documents documents) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Yaml.Document document : documents.getDocuments()) {
+            flatten("", document.getBlock(), values);
+        }
+        return values;
+    }
+
+    private static void flatten(String key, Yaml.Block block, Map<String, String> values) {
+        if (block instanceof Yaml.Mapping) {
+            for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) block).getEntries()) {
+                flatten(key.isEmpty() ? entry.getKey().getValue() : key + "." + entry.getKey().getValue(),
+                        entry.getValue(), values);
+            }
+        } else if (block instanceof Yaml.Sequence) {
+            List<Yaml.Sequence.Entry> entries = ((Yaml.Sequence) block).getEntries();
+            for (int i = 0; i < entries.size(); i++) {
+                flatten(key + "[" + i + "]", entries.get(i).getBlock(), values);
+            }
+        } else if (block instanceof Yaml.Scalar && !key.isEmpty()) {
+            values.put(key, ((Yaml.Scalar) block).getValue());
+        }
+    }
+
+    /**
+     * Converts Dropwizard environment variable substitution, {@code ${PORT:-8080}}, to a Spring placeholder.
+     */
+    static String springValue(String value) {
+        return ENVIRONMENT_DEFAULT.matcher(value).replaceAll("\\${$1:$2}");
+    }
+
+    /**
+     * Converts a Dropwizard duration such as {@code 1 minute} or {@code 30s} to the Spring Boot format,
+     * or returns {@code null} when it is not a duration.
+     */
+    static @Nullable String springDuration(String value) {
+        Matcher matcher = DURATION.matcher(value.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String unit = DURATION_UNITS.get(matcher.group(2).toLowerCase(Locale.ROOT));
+        return unit == null ? null : matcher.group(1) + unit;
+    }
+
+    /**
+     * Converts a Dropwizard duration to milliseconds, for the properties that only accept a number,
+     * or returns {@code null} when it is not a duration.
+     */
+    static @Nullable String springMillis(String value) {
+        String duration = springDuration(value);
+        if (duration == null) {
+            return null;
+        }
+        int unitStart = 0;
+        while (Character.isDigit(duration.charAt(unitStart))) {
+            unitStart++;
+        }
+        try {
+            long amount = Long.parseLong(duration.substring(0, unitStart));
+            return Long.toString(TIME_UNITS.get(duration.substring(unitStart)).toMillis(amount));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Appends the properties whose keys are not in the file yet, in the given order.
+     */
+    static Properties.File addIfAbsent(Properties.File file, Map<String, String> properties) {
+        Set<String> existing = new HashSet<>();
+        for (Properties.Content content : file.getContent()) {
+            if (content instanceof Properties.Entry) {
+                existing.add(((Properties.Entry) content).getKey());
+            }
+        }
+        String added = properties.entrySet().stream()
+                .filter(property -> !existing.contains(property.getKey()))
+                .map(property -> property.getKey() + "=" + property.getValue())
+                .collect(joining("\n"));
+        if (added.isEmpty()) {
+            return file;
+        }
+
+        List<Properties.Content> content = new ArrayList<>(file.getContent());
+        PropertiesParser.builder().build()
+                .parse(content.isEmpty() ? added : "\n" + added)
+                .filter(Properties.File.class::isInstance)
+                .map(Properties.File.class::cast)
+                .forEach(parsed -> content.addAll(parsed.getContent()));
+        return file.withContent(content);
+    }
+}
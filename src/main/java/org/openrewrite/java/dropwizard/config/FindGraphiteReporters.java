@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.isDropwizardConfiguration;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindGraphiteReporters extends ScanningRecipe<FindGraphiteReporters.Accumulator> {
+
+    String displayName = "Find projects reporting metrics to Graphite";
+
+    String description = "Marks the build files and other non-Java sources of the projects whose Dropwizard YAML " +
+            "configuration has a Graphite reporter, which `MigrateMetricsReporters` carries over to Spring Boot. Used as " +
+            "a precondition of adding `micrometer-registry-graphite`, as no Java source uses the registry.";
+
+    public static class Accumulator {
+        final Set<UUID> projects = new HashSet<>();
+        boolean outsideProject;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Yaml.Documents && isDropwizardConfiguration((Yaml.Documents) tree) &&
+                    MigrateMetricsReporters.reportsToGraphite((Yaml.Documents) tree)) {
+                    JavaProject project = ((Yaml.Documents) tree).getMarkers().findFirst(JavaProject.class).orElse(null);
+                    if (project == null) {
+                        acc.outsideProject = true;
+                    } else {
+                        acc.projects.add(project.getId());
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.projects.isEmpty() && !acc.outsideProject) {
+            return TreeVisitor.noop();
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || tree instanceof JavaSourceFile) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                if (!acc.outsideProject && !sourceFile.getMarkers().findFirst(JavaProject.class)
+                        .map(p -> acc.projects.contains(p.getId()))
+                        .orElse(false)) {
+                    return sourceFile;
+                }
+                return SearchResult.found(sourceFile);
+            }
+        };
+    }
+}
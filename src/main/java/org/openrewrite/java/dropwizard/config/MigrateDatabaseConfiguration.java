@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateDatabaseConfiguration extends ScanningRecipe<MigrateDatabaseConfiguration.Accumulator> {
+
+    private static final Map<String, String> PROPERTIES = new HashMap<>();
+    private static final Set<String> MILLIS = new HashSet<>();
+    private static final long MIN_KEEPALIVE_MILLIS = 30_000;
+
+    static {
+        PROPERTIES.put("url", "spring.datasource.url");
+        PROPERTIES.put("user", "spring.datasource.username");
+        PROPERTIES.put("password", "spring.datasource.password");
+        PROPERTIES.put("driverClass", "spring.datasource.driverClassName");
+        PROPERTIES.put("maxSize", "spring.datasource.hikari.maximum-pool-size");
+        PROPERTIES.put("minSize", "spring.datasource.hikari.minimum-idle");
+        PROPERTIES.put("maxWaitForConnection", "spring.datasource.hikari.connection-timeout");
+        PROPERTIES.put("validationQuery", "spring.datasource.hikari.connection-test-query");
+        PROPERTIES.put("validationQueryTimeout", "spring.datasource.hikari.validation-timeout");
+        PROPERTIES.put("evictionInterval", "spring.datasource.hikari.keepalive-time");
+        PROPERTIES.put("minIdleTime", "spring.datasource.hikari.idle-timeout");
+        PROPERTIES.put("maxConnectionAge", "spring.datasource.hikari.max-lifetime");
+        PROPERTIES.put("autoCommitByDefault", "spring.datasource.hikari.auto-commit");
+        PROPERTIES.put("readOnlyByDefault", "spring.datasource.hikari.read-only");
+        PROPERTIES.put("defaultCatalog", "spring.datasource.hikari.catalog");
+        PROPERTIES.put("initializationQuery", "spring.datasource.hikari.connection-init-sql");
+
+        // HikariCP binds its timeouts as plain milliseconds
+        MILLIS.add("maxWaitForConnection");
+        MILLIS.add("validationQueryTimeout");
+        MILLIS.add("evictionInterval");
+        MILLIS.add("minIdleTime");
+        MILLIS.add("maxConnectionAge");
+    }
+
+    String displayName = "Migrate Dropwizard database configuration";
+
+    String description = "Carries the connection and pool settings of the Dropwizard `DataSourceFactory` configuration, " +
+            "such as `maxSize`, `minSize`, `maxWaitForConnection` and `validationQuery`, over to the " +
+            "`spring.datasource.*` and `spring.datasource.hikari.*` properties in the `application.properties` of the " +
+            "same module. Settings without a HikariCP equivalent are reported.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    transient UnmappedDropwizardConfiguration unmapped = new UnmappedDropwizardConfiguration(this);
+
+    public static class Accumulator {
+        final Map<Path, Map<String, String>> propertiesByModule = new HashMap<>();
+        final Set<String> reported = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Yaml.Documents) || !isDropwizardConfiguration((Yaml.Documents) tree)) {
+                    return tree;
+                }
+                Yaml.Documents yaml = (Yaml.Documents) tree;
+                Map<String, String> settings = flatten(yaml);
+
+                // The block of a DataSourceFactory can have any name, but always has a driver class
+                List<String> dataSources = settings.keySet().stream()
+                        .filter(key -> key.endsWith(".driverClass") && key.indexOf('.') == key.lastIndexOf('.'))
+                        .map(key -> key.substring(0, key.indexOf('.') + 1))
+                        .collect(toList());
+                if (dataSources.isEmpty()) {
+                    return tree;
+                }
+
+                Map<String, String> properties = acc.propertiesByModule.computeIfAbsent(
+                        moduleRoot(yaml.getSourcePath()), k -> new LinkedHashMap<>());
+                boolean checkWhileIdle = !"false".equalsIgnoreCase(settings.get(dataSources.get(0) + "checkConnectionWhileIdle"));
+                for (Map.Entry<String, String> setting : settings.entrySet()) {
+                    String key = setting.getKey();
+                    String dataSource = dataSources.stream().filter(key::startsWith).findFirst().orElse(null);
+                    if (dataSource == null) {
+                        continue;
+                    }
+                    String reason = dataSource.equals(dataSources.get(0)) ?
+                            map(key.substring(dataSource.length()), setting.getValue(), checkWhileIdle, properties) :
+                            "Only the first data source is migrated";
+                    if (reason != null && acc.reported.add(yaml.getSourcePath() + "#" + key)) {
+                        unmapped.insertRow(ctx, new UnmappedDropwizardConfiguration.Row(
+                                yaml.getSourcePath().toString(), key, setting.getValue(), reason));
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * @return why the setting could not be carried over, or {@code null} when it was.
+     */
+    private static @Nullable String map(String name, String value, boolean checkWhileIdle, Map<String, String> properties) {
+        if (name.startsWith("properties.")) {
+            // Dropwizard hands these to both Hibernate and the JDBC driver
+            String property = name.substring("properties.".length());
+            properties.putIfAbsent(property.startsWith("hibernate.") ?
+                    "spring.jpa.properties." + property :
+                    "spring.datasource.hikari.data-source-properties." + property, springValue(value));
+            return null;
+        } else if ("checkConnectionWhileIdle".equals(name)) {
+            return null;
+        } else if ("defaultTransactionIsolation".equals(name)) {
+            return transactionIsolation(value, properties);
+        }
+
+        String property = PROPERTIES.get(name);
+        if (property == null) {
+            return "No HikariCP equivalent";
+        } else if ("evictionInterval".equals(name) && !checkWhileIdle) {
+            return "Idle connections are not checked, so no HikariCP keepalive is needed";
+        }
+        String converted = MILLIS.contains(name) ? springMillis(value) : springValue(value);
+        if (converted == null) {
+            return "Not a duration HikariCP can use";
+        } else if ("evictionInterval".equals(name) && Long.parseLong(converted) < MIN_KEEPALIVE_MILLIS) {
+            return "HikariCP disables a keepalive shorter than 30 seconds";
+        }
+        properties.putIfAbsent(property, converted);
+        return null;
+    }
+
+    private static @Nullable String transactionIsolation(String value, Map<String, String> properties) {
+        switch (value) {
+            case "default":
+                return null;
+            case "none":
+            case "read-uncommitted":
+            case "read-committed":
+            case "repeatable-read":
+            case "serializable":
+                properties.putIfAbsent("spring.datasource.hikari.transaction-isolation",
+                        "TRANSACTION_" + value.toUpperCase(Locale.ROOT).replace('-', '_'));
+                return null;
+            default:
+                return "Unknown transaction isolation";
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return stats.record(new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || !isApplicationProperties((SourceFile) tree)) {
+                    return tree;
+                }
+                Properties.File file = (Properties.File) tree;
+                Map<String, String> properties = acc.propertiesByModule.get(moduleRoot(file.getSourcePath()));
+                return properties == null ? file : addIfAbsent(file, properties);
+            }
+        });
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toSet;
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateMaxQueuedRequests extends ScanningRecipe<MigrateMaxQueuedRequests.Accumulator> {
+
+    private static final String QOS_HANDLER = "org.eclipse.jetty.server.handler.QoSHandler";
+    private static final String DEFAULT_MAX_THREADS = "1024";
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    // Jetty 12 is not on the parser classpath of this module
+    private static final String QOS_HANDLER_STUB = "package org.eclipse.jetty.server.handler;\n" +
+            "public class QoSHandler {\n" +
+            "    public void setMaxRequestCount(int maxRequestCount) {}\n" +
+            "    public void setMaxSuspendedRequestCount(int maxSuspendedRequestCount) {}\n" +
+            "}";
+
+    String displayName = "Bound the Dropwizard 5 request queue with a Jetty `QoSHandler`";
+
+    String description = "Dropwizard 5 no longer supports `server.maxQueuedRequests`, which leaves Jetty 12 with an " +
+            "unbounded request queue. Registers a Jetty `QoSHandler` in the `run` method of the `Application` of the same " +
+            "module instead, which processes up to `maxThreads` requests, suspends up to `maxQueuedRequests` more and " +
+            "rejects the rest. Services where that is not possible are reported.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    transient UnmappedDropwizardConfiguration unmapped = new UnmappedDropwizardConfiguration(this);
+
+    @Value
+    static class QueueSetting {
+        Path sourcePath;
+        String maxQueuedRequests;
+
+        @Nullable
+        String maxThreads;
+    }
+
+    public static class Accumulator {
+        final Map<Path, Map<Path, QueueSetting>> settingsByModule = new HashMap<>();
+        final Set<Path> applicationModules = new HashSet<>();
+        final Set<Path> reported = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Yaml.Documents && isDropwizardConfiguration((Yaml.Documents) tree)) {
+                    Yaml.Documents yaml = (Yaml.Documents) tree;
+                    Map<String, String> settings = flatten(yaml);
+                    String maxQueuedRequests = settings.get("server.maxQueuedRequests");
+                    if (maxQueuedRequests != null) {
+                        acc.settingsByModule.computeIfAbsent(moduleRoot(yaml.getSourcePath()), k -> new LinkedHashMap<>())
+                                .put(yaml.getSourcePath(), new QueueSetting(yaml.getSourcePath(), maxQueuedRequests, settings.get("server.maxThreads")));
+                    }
+                } else if (tree instanceof JavaSourceFile) {
+                    for (J.ClassDeclaration classDecl : ((JavaSourceFile) tree).getClasses()) {
+                        if (isApplication(classDecl.getType())) {
+                            acc.applicationModules.add(moduleRoot(((JavaSourceFile) tree).getSourcePath()));
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return stats.record(new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Yaml.Documents) {
+                    report((Yaml.Documents) tree, acc, ctx);
+                } else if (tree instanceof JavaSourceFile) {
+                    QueueSetting bound = bound(moduleRoot(((JavaSourceFile) tree).getSourcePath()), acc);
+                    if (bound != null) {
+                        return new RegisterQoSHandler(bound).visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    private void report(Yaml.Documents yaml, Accumulator acc, ExecutionContext ctx) {
+        Path module = moduleRoot(yaml.getSourcePath());
+        Map<Path, QueueSetting> settings = acc.settingsByModule.getOrDefault(module, Collections.emptyMap());
+        QueueSetting setting = settings.get(yaml.getSourcePath());
+        if (setting == null) {
+            return;
+        }
+        String reason = reason(setting, settings.values(), acc.applicationModules.contains(module));
+        if (reason != null && acc.reported.add(yaml.getSourcePath())) {
+            unmapped.insertRow(ctx, new UnmappedDropwizardConfiguration.Row(
+                    yaml.getSourcePath().toString(), "server.maxQueuedRequests", setting.getMaxQueuedRequests(), reason));
+        }
+    }
+
+    private static @Nullable String reason(QueueSetting setting, Collection<QueueSetting> moduleSettings, boolean hasApplication) {
+        if (!NUMBER.matcher(setting.getMaxQueuedRequests()).matches()) {
+            return "Not a number, so the QoSHandler has to be configured by hand";
+        } else if (moduleSettings.stream().map(QueueSetting::getMaxQueuedRequests).collect(toSet()).size() > 1) {
+            return "Differs between the configuration files of the service";
+        } else if (!hasApplication) {
+            return "No Dropwizard Application found to register a QoSHandler in";
+        }
+        return null;
+    }
+
+    /**
+     * @return the setting to carry over to the {@code Application} of the module, or {@code null} if there is none.
+     */
+    private static @Nullable QueueSetting bound(Path module, Accumulator acc) {
+        Collection<QueueSetting> settings = acc.settingsByModule.getOrDefault(module, Collections.emptyMap()).values();
+        boolean hasApplication = acc.applicationModules.contains(module);
+        if (settings.isEmpty() || settings.stream().anyMatch(setting -> reason(setting, settings, hasApplication) != null)) {
+            return null;
+        }
+        return settings.iterator().next();
+    }
+
+    private static boolean isApplication(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo("io.dropwizard.core.Application", type) ||
+               TypeUtils.isAssignableTo("io.dropwizard.Application", type);
+    }
+
+    private static class RegisterQoSHandler extends JavaIsoVisitor<ExecutionContext> {
+        private final QueueSetting bound;
+
+        RegisterQoSHandler(QueueSetting bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            return isApplication(classDecl.getType()) ? super.visitClassDeclaration(classDecl, ctx) : classDecl;
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            if (!"run".equals(m.getSimpleName()) || m.getBody() == null || m.getParameters().size() != 2 ||
+                !(m.getParameters().get(1) instanceof J.VariableDeclarations) || registersQoSHandler(m.getBody())) {
+                return m;
+            }
+
+            String environment = ((J.VariableDeclarations) m.getParameters().get(1)).getVariables().get(0).getSimpleName();
+            String maxThreads = bound.getMaxThreads() != null && NUMBER.matcher(bound.getMaxThreads()).matches() ?
+                    bound.getMaxThreads() : DEFAULT_MAX_THREADS;
+            String code = "QoSHandler qosHandler = new QoSHandler();\n" +
+                          "qosHandler.setMaxRequestCount(" + maxThreads + ");\n" +
+                          "qosHandler.setMaxSuspendedRequestCount(" + bound.getMaxQueuedRequests() + ");\n" +
+                          environment + ".getApplicationContext().insertHandler(qosHandler);";
+            maybeAddImport(QOS_HANDLER);
+            return template(code, ctx).apply(updateCursor(m), m.getBody().getCoordinates().lastStatement());
+        }
+
+        private static boolean registersQoSHandler(J.Block body) {
+            AtomicBoolean registers = new AtomicBoolean();
+            new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                    if (TypeUtils.isOfClassType(newClass.getType(), QOS_HANDLER)) {
+                        found.set(true);
+                    }
+                    return super.visitNewClass(newClass, found);
+                }
+            }.visit(body, registers);
+            return registers.get();
+        }
+
+        private static JavaTemplate template(String code, ExecutionContext ctx) {
+            return TemplateCache.get(ctx, MigrateMaxQueuedRequests.class, code, () -> JavaTemplate.builder(code)
+                    .contextSensitive()
+                    .imports(QOS_HANDLER)
+                    .javaParser(JavaParser.fromJavaVersion().dependsOn(QOS_HANDLER_STUB))
+                    .build());
+        }
+    }
+}
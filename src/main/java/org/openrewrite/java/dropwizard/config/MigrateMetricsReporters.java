@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateMetricsReporters extends ScanningRecipe<MigrateMetricsReporters.Accumulator> {
+
+    private static final Pattern REPORTER = Pattern.compile("metrics\\.reporters\\[(\\d+)]\\.(.+)");
+    private static final String GRAPHITE = "management.metrics.export.graphite.";
+    private static final String DROPWIZARD_GRAPHITE_PORT = "2003";
+    private static final Map<String, String> GRAPHITE_PROTOCOLS = new HashMap<>();
+
+    static {
+        GRAPHITE_PROTOCOLS.put("tcp", "PLAINTEXT");
+        GRAPHITE_PROTOCOLS.put("udp", "UDP");
+        GRAPHITE_PROTOCOLS.put("pickle", "PICKLED");
+    }
+
+    String displayName = "Migrate Dropwizard metrics reporters";
+
+    String description = "Carries the Graphite reporter of the `metrics` section of Dropwizard YAML configuration, " +
+            "with its host, port, transport, units and reporting `frequency`, over to the `management.metrics.export.graphite.*` " +
+            "properties in the `application.properties` of the same module, so that metrics are flushed at the same " +
+            "interval. Dropwizard's plaintext TCP transport on port 2003 is written out when not set, as Spring Boot " +
+            "would otherwise use the pickled protocol on port 2004. `AddGraphiteRegistry` adds the `micrometer-registry-graphite` " +
+            "dependency the properties need to take effect. " +
+            "Reporters and settings without a Spring Boot equivalent, such as the console and CSV reporters, are reported.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    transient UnmappedDropwizardConfiguration unmapped = new UnmappedDropwizardConfiguration(this);
+
+    public static class Accumulator {
+        final Map<Path, Map<String, String>> propertiesByModule = new HashMap<>();
+        final Set<String> reported = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Yaml.Documents) || !isDropwizardConfiguration((Yaml.Documents) tree)) {
+                    return tree;
+                }
+                Yaml.Documents yaml = (Yaml.Documents) tree;
+                Map<String, String> settings = flatten(yaml);
+                Map<Integer, Map<String, String>> reporters = new TreeMap<>();
+                for (Map.Entry<String, String> setting : settings.entrySet()) {
+                    Matcher reporter = REPORTER.matcher(setting.getKey());
+                    if (reporter.matches()) {
+                        reporters.computeIfAbsent(Integer.parseInt(reporter.group(1)), k -> new LinkedHashMap<>())
+                                .put(reporter.group(2), setting.getValue());
+                    }
+                }
+                if (reporters.isEmpty()) {
+                    return tree;
+                }
+
+                Map<String, String> properties = acc.propertiesByModule.computeIfAbsent(
+                        moduleRoot(yaml.getSourcePath()), k -> new LinkedHashMap<>());
+                boolean graphite = false;
+                for (Map.Entry<Integer, Map<String, String>> reporter : reporters.entrySet()) {
+                    String prefix = "metrics.reporters[" + reporter.getKey() + "].";
+                    String type = reporter.getValue().get("type");
+                    if (!"graphite".equals(type)) {
+                        report(acc, yaml, ctx, prefix + "type", String.valueOf(type), "No Micrometer registry in Spring Boot");
+                    } else if (graphite) {
+                        report(acc, yaml, ctx, prefix + "type", type, "Spring Boot configures a single Graphite registry");
+                    } else {
+                        graphite = true;
+                        Map<String, String> graphiteSettings = new LinkedHashMap<>(reporter.getValue());
+                        graphiteSettings.remove("type");
+                        graphiteSettings.putIfAbsent("frequency", settings.get("metrics.frequency"));
+                        for (Map.Entry<String, String> setting : graphiteSettings.entrySet()) {
+                            if (setting.getValue() != null) {
+                                mapGraphite(acc, yaml, ctx, properties, prefix + setting.getKey(), setting.getKey(), setting.getValue());
+                            }
+                        }
+                        // Spring Boot defaults to pickled on 2004, Dropwizard to plaintext TCP on 2003
+                        if (!graphiteSettings.containsKey("port")) {
+                            properties.putIfAbsent(GRAPHITE + "port", DROPWIZARD_GRAPHITE_PORT);
+                        }
+                        if (!graphiteSettings.containsKey("transport")) {
+                            properties.putIfAbsent(GRAPHITE + "protocol", GRAPHITE_PROTOCOLS.get("tcp"));
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return stats.record(new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || !isApplicationProperties((SourceFile) tree)) {
+                    return tree;
+                }
+                Properties.File file = (Properties.File) tree;
+                Map<String, String> properties = acc.propertiesByModule.get(moduleRoot(file.getSourcePath()));
+                return properties == null ? file : addIfAbsent(file, properties);
+            }
+        });
+    }
+
+    private void mapGraphite(Accumulator acc, Yaml.Documents yaml, ExecutionContext ctx, Map<String, String> properties,
+                             String key, String setting, String value) {
+        switch (setting) {
+            case "host":
+            case "port":
+                properties.putIfAbsent(GRAPHITE + setting, springValue(value));
+                break;
+            case "transport":
+                String protocol = GRAPHITE_PROTOCOLS.get(value.toLowerCase(Locale.ROOT));
+                if (protocol == null) {
+                    report(acc, yaml, ctx, key, value, "No Graphite protocol in Spring Boot");
+                } else {
+                    properties.putIfAbsent(GRAPHITE + "protocol", protocol);
+                }
+                break;
+            case "durationUnit":
+            case "rateUnit":
+                String unit = timeUnit(value);
+                if (unit == null) {
+                    report(acc, yaml, ctx, key, value, "Not a time unit Spring Boot can parse");
+                } else {
+                    properties.putIfAbsent(GRAPHITE + ("durationUnit".equals(setting) ? "duration-units" : "rate-units"), unit);
+                }
+                break;
+            case "frequency":
+                String step = springDuration(value);
+                if (step == null) {
+                    report(acc, yaml, ctx, key, value, "Not a duration Spring Boot can parse");
+                } else {
+                    properties.putIfAbsent(GRAPHITE + "step", step);
+                }
+                break;
+            default:
+                report(acc, yaml, ctx, key, value, "No Spring Boot equivalent");
+        }
+    }
+
+    private static @Nullable String timeUnit(String value) {
+        try {
+            return TimeUnit.valueOf(value.trim().toUpperCase(Locale.ROOT)).name();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the Dropwizard configuration has a Graphite reporter, which this recipe carries over.
+     */
+    static boolean reportsToGraphite(Yaml.Documents yaml) {
+        for (Map.Entry<String, String> setting : flatten(yaml).entrySet()) {
+            Matcher reporter = REPORTER.matcher(setting.getKey());
+            if (reporter.matches() && "type".equals(reporter.group(2)) && "graphite".equals(setting.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void report(Accumulator acc, Yaml.Documents yaml, ExecutionContext ctx, String key, String value, String reason) {
+        if (acc.reported.add(yaml.getSourcePath() + "#" + key)) {
+            unmapped.insertRow(ctx, new UnmappedDropwizardConfiguration.Row(
+                    yaml.getSourcePath().toString(), key, value, reason));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateServerConfiguration extends ScanningRecipe<MigrateServerConfiguration.Accumulator> {
+
+    private static final Map<String, String> PROPERTIES = new LinkedHashMap<>();
+    private static final Set<String> DURATIONS = new HashSet<>();
+    private static final Set<String> PATHS = new HashSet<>();
+
+    static {
+        // Default server
+        PROPERTIES.put("server.applicationConnectors[0].port", "server.port");
+        PROPERTIES.put("server.adminConnectors[0].port", "management.server.port");
+        PROPERTIES.put("server.maxThreads", "server.jetty.threads.max");
+        PROPERTIES.put("server.minThreads", "server.jetty.threads.min");
+        PROPERTIES.put("server.maxQueuedRequests", "server.jetty.threads.max-queue-capacity");
+        PROPERTIES.put("server.idleThreadTimeout", "server.jetty.threads.idle-timeout");
+        PROPERTIES.put("server.applicationConnectors[0].acceptorThreads", "server.jetty.threads.acceptors");
+        PROPERTIES.put("server.applicationConnectors[0].selectorThreads", "server.jetty.threads.selectors");
+        PROPERTIES.put("server.applicationConnectors[0].idleTimeout", "server.jetty.connection-idle-timeout");
+        PROPERTIES.put("server.applicationConnectors[0].bindHost", "server.address");
+        PROPERTIES.put("server.adminConnectors[0].bindHost", "management.server.address");
+
+        // Simple server
+        PROPERTIES.put("server.connector.port", "server.port");
+        PROPERTIES.put("server.connector.acceptorThreads", "server.jetty.threads.acceptors");
+        PROPERTIES.put("server.connector.selectorThreads", "server.jetty.threads.selectors");
+        PROPERTIES.put("server.connector.idleTimeout", "server.jetty.connection-idle-timeout");
+        PROPERTIES.put("server.connector.bindHost", "server.address");
+
+        // Both servers
+        PROPERTIES.put("server.applicationContextPath", "server.servlet.context-path");
+        PROPERTIES.put("server.rootPath", "server.servlet.context-path");
+        PROPERTIES.put("server.adminContextPath", "management.server.base-path");
+
+        DURATIONS.add("server.idleThreadTimeout");
+        DURATIONS.add("server.applicationConnectors[0].idleTimeout");
+        DURATIONS.add("server.connector.idleTimeout");
+
+        PATHS.add("server.applicationContextPath");
+        PATHS.add("server.rootPath");
+        PATHS.add("server.adminContextPath");
+    }
+
+    String displayName = "Migrate Dropwizard server thread pool and connector settings";
+
+    String description = "Carries the `server` thread pool and connector settings of Dropwizard YAML configuration, " +
+            "such as `maxThreads`, `minThreads`, `maxQueuedRequests`, `idleThreadTimeout` and the acceptor and selector " +
+            "threads of the application connector, over to the `server.jetty.threads.*` properties in the " +
+            "`application.properties` of the same module. The bind hosts of the connectors become `server.address` " +
+            "and `management.server.address`, `applicationContextPath` and `rootPath` together become " +
+            "`server.servlet.context-path` and `adminContextPath` becomes `management.server.base-path`. " +
+            "Settings without a Spring Boot equivalent are reported.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    transient UnmappedDropwizardConfiguration unmapped = new UnmappedDropwizardConfiguration(this);
+
+    public static class Accumulator {
+        final Map<Path, Map<String, String>> propertiesByModule = new HashMap<>();
+        final Set<String> reported = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Yaml.Documents) || !isDropwizardConfiguration((Yaml.Documents) tree)) {
+                    return tree;
+                }
+                Yaml.Documents yaml = (Yaml.Documents) tree;
+                Map<String, String> properties = acc.propertiesByModule.computeIfAbsent(
+                        moduleRoot(yaml.getSourcePath()), k -> new LinkedHashMap<>());
+                Map<String, String> settings = flatten(yaml);
+                for (Map.Entry<String, String> setting : settings.entrySet()) {
+                    String key = setting.getKey();
+                    if (!key.startsWith("server.") || key.equals("server.type") || key.endsWith(".type")) {
+                        continue;
+                    }
+                    String property = PROPERTIES.get(key);
+                    String value = DURATIONS.contains(key) ? springDuration(setting.getValue()) :
+                            PATHS.contains(key) ? contextPath(settings, key) : springValue(setting.getValue());
+                    if (PATHS.contains(key) && value.isEmpty()) {
+                        // served from the root, as Spring Boot does by default
+                        continue;
+                    }
+                    if (property != null && value != null) {
+                        properties.putIfAbsent(property, value);
+                    } else if (acc.reported.add(yaml.getSourcePath() + "#" + key)) {
+                        unmapped.insertRow(ctx, new UnmappedDropwizardConfiguration.Row(
+                                yaml.getSourcePath().toString(), key, setting.getValue(),
+                                property == null ? "No Spring Boot equivalent" : "Not a duration Spring Boot can parse"));
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * Dropwizard serves Jersey from {@code rootPath} within {@code applicationContextPath}, where Spring Boot has a
+     * single context path, without the trailing {@code /*} or {@code /}.
+     */
+    private static String contextPath(Map<String, String> settings, String key) {
+        if ("server.adminContextPath".equals(key)) {
+            return path(settings.get(key));
+        }
+        return path(settings.get("server.applicationContextPath")) + path(settings.get("server.rootPath"));
+    }
+
+    private static String path(@Nullable String value) {
+        if (value == null) {
+            return "";
+        }
+        String path = springValue(value.trim());
+        if (path.endsWith("/*")) {
+            path = path.substring(0, path.length() - 2);
+        }
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path.isEmpty() || path.startsWith("/") || path.startsWith("$") ? path : "/" + path;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return stats.record(new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || !isApplicationProperties((SourceFile) tree)) {
+                    return tree;
+                }
+                Properties.File file = (Properties.File) tree;
+                Map<String, String> properties = acc.propertiesByModule.get(moduleRoot(file.getSourcePath()));
+                return properties == null ? file : addIfAbsent(file, properties);
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.general;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindDropwizardUsages extends ScanningRecipe<FindDropwizardUsages.Accumulator> {
+
+    private static final List<String> TYPE_PREFIXES = asList(
+            "io.dropwizard.",
+            "com.codahale.metrics.",
+            "org.eclipse.jetty.server.Handler",
+            "org.eclipse.jetty.server.handler.");
+
+    String displayName = "Find Dropwizard usages";
+
+    String description = "Indexes the Java sources that reference Dropwizard, Dropwizard Metrics or Jetty handler types " +
+            "and marks them, together with all non-Java sources such as build files and configuration. Used as a " +
+            "precondition of the Dropwizard-specific parts of the Spring Boot migration, so that they only visit the " +
+            "Java sources they can change.";
+
+    public static class Accumulator {
+        final Set<Path> dropwizardSources = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile && referencesDropwizard((JavaSourceFile) tree)) {
+                    acc.dropwizardSources.add(((JavaSourceFile) tree).getSourcePath());
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                if (sourceFile instanceof JavaSourceFile && !acc.dropwizardSources.contains(sourceFile.getSourcePath())) {
+                    return sourceFile;
+                }
+                return SearchResult.found(sourceFile);
+            }
+        };
+    }
+
+    private static boolean referencesDropwizard(JavaSourceFile sourceFile) {
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified && isDropwizardType((JavaType.FullyQualified) type)) {
+                return true;
+            }
+        }
+        for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+            if (isDropwizardType(method.getDeclaringType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDropwizardType(JavaType.FullyQualified type) {
+        String fqn = type.getFullyQualifiedName();
+        for (String prefix : TYPE_PREFIXES) {
+            if (fqn.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
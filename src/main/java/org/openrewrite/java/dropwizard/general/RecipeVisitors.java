@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.general;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.dropwizard.cache.IncrementalCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+
+/**
+ * Assembles the visitor of a recipe of this module from its precondition and its edit visitor. The precondition
+ * runs first, so the {@link IncrementalCache} only keys the source files it accepts, and the
+ * {@link DropwizardRecipeStats} of the recipe records the time spent on each file, precondition included.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecipeVisitors {
+
+    public static TreeVisitor<?, ExecutionContext> of(Recipe recipe, DropwizardRecipeStats stats,
+                                                      TreeVisitor<?, ExecutionContext> precondition,
+                                                      TreeVisitor<?, ExecutionContext> visitor) {
+        return stats.record(Preconditions.check(precondition, IncrementalCache.skipUnchanged(recipe, visitor)));
+    }
+
+    public static TreeVisitor<?, ExecutionContext> of(Recipe recipe, DropwizardRecipeStats stats,
+                                                      TreeVisitor<?, ExecutionContext> visitor) {
+        return stats.record(IncrementalCache.skipUnchanged(recipe, visitor));
+    }
+}
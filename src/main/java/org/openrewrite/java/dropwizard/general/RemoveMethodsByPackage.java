@@ -20,13 +20,18 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -41,49 +46,79 @@ public class RemoveMethodsByPackage extends Recipe {
 
     String description = "Removes any method that has a return type or parameter type from the specified package.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return RecipeVisitors.of(this, stats,
+                usesPackage(packageFilter),
+                new JavaIsoVisitor<ExecutionContext>() {
 
-            @Override
-            public J.@Nullable MethodDeclaration visitMethodDeclaration(
-                    J.MethodDeclaration method, ExecutionContext ctx) {
-                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                    @Override
+                    public J.@Nullable MethodDeclaration visitMethodDeclaration(
+                            J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
 
-                // Check the return type
-                if (method.getReturnTypeExpression() != null) {
-                    JavaType.FullyQualified fq =
-                            TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType());
+                        // Check the return type
+                        if (method.getReturnTypeExpression() != null) {
+                            JavaType.FullyQualified fq =
+                                    TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType());
 
-                    if (fq != null && fq.getFullyQualifiedName().startsWith(packageFilter)) {
-                        maybeRemoveImport(fq);
-                        return null;
-                    }
+                            if (fq != null && fq.getFullyQualifiedName().startsWith(packageFilter)) {
+                                maybeRemoveImport(fq);
+                                return null;
+                            }
 
-                    String returnTypeStr = method.getReturnTypeExpression().toString();
-                    if (returnTypeStr.startsWith(packageFilter)) {
-                        maybeRemoveImport(returnTypeStr);
-                        return null;
-                    }
-                }
+                            String returnTypeStr = method.getReturnTypeExpression().toString();
+                            if (returnTypeStr.startsWith(packageFilter)) {
+                                maybeRemoveImport(returnTypeStr);
+                                return null;
+                            }
+                        }
 
-                // Check each parameter type
-                for (Statement param : method.getParameters()) {
-                    if (param instanceof J.VariableDeclarations) {
-                        for (J.VariableDeclarations.NamedVariable namedVar :
-                                ((J.VariableDeclarations) param).getVariables()) {
-                            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(namedVar.getType());
-                            if (fq != null) {
-                                if (fq.getFullyQualifiedName().startsWith(packageFilter)) {
-                                    maybeRemoveImport(fq);
-                                    return null;
+                        // Check each parameter type
+                        for (Statement param : method.getParameters()) {
+                            if (param instanceof J.VariableDeclarations) {
+                                for (J.VariableDeclarations.NamedVariable namedVar :
+                                        ((J.VariableDeclarations) param).getVariables()) {
+                                    JavaType.FullyQualified fq = TypeUtils.asFullyQualified(namedVar.getType());
+                                    if (fq != null) {
+                                        if (fq.getFullyQualifiedName().startsWith(packageFilter)) {
+                                            maybeRemoveImport(fq);
+                                            return null;
+                                        }
+                                    }
                                 }
                             }
                         }
+                        return m;
                     }
-                }
-                return m;
-            }
-        };
+                });
+    }
+
+    /**
+     * Finds source files using a type in the package, including fully qualified references to types the
+     * parser could not resolve, which {@link UsesType} does not see.
+     */
+    static TreeVisitor<?, ExecutionContext> usesPackage(String packageFilter) {
+        return Preconditions.or(
+                new UsesType<>(packageFilter + "..*", true),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+                        String name = qualifiedName(fieldAccess);
+                        if (name != null && (name + '.').startsWith(packageFilter + '.')) {
+                            return SearchResult.found(fieldAccess);
+                        }
+                        return super.visitFieldAccess(fieldAccess, ctx);
+                    }
+                });
+    }
+
+    private static @Nullable String qualifiedName(J.FieldAccess fieldAccess) {
+        Expression target = fieldAccess.getTarget();
+        String prefix = target instanceof J.Identifier ? ((J.Identifier) target).getSimpleName() :
+                target instanceof J.FieldAccess ? qualifiedName((J.FieldAccess) target) : null;
+        return prefix == null ? null : prefix + '.' + fieldAccess.getSimpleName();
     }
 }
@@ -24,18 +24,24 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.TypeMatcher;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class RemoveVariablesByPackage extends Recipe {
 
+    private static final String USAGES = "VARIABLE_USAGES";
+
     @Option(displayName = "Package filter",
             description = "The package name to filter methods by. Methods with return types or parameter types in this package (or subpackages) will be removed.",
             example = "com.example.unwanted")
@@ -50,81 +56,107 @@ public class RemoveVariablesByPackage extends Recipe {
 
     String description = "Removes class-level variables from classes in the specified package.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return RecipeVisitors.of(this, stats,
+                new UsesType<>(packageFilter + "..*", true),
+                new JavaIsoVisitor<ExecutionContext>() {
 
-            final TypeMatcher targetTypeMatcher = new TypeMatcher(packageFilter + "..*", true);
+                    final TypeMatcher targetTypeMatcher = new TypeMatcher(packageFilter + "..*", true);
 
-            @Override
-            public J.@Nullable VariableDeclarations visitVariableDeclarations(
-                    J.VariableDeclarations multiVariable, ExecutionContext ctx) {
-                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        // Index all identifier references once, rather than re-walking the tree for every candidate
+                        getCursor().putMessage(USAGES, indexUsages(cu));
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
 
-                // Skip method parameters.
-                if (isMethodParameter()) {
-                    return vd;
-                }
+                    @Override
+                    public J.@Nullable VariableDeclarations visitVariableDeclarations(
+                            J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
 
-                // Optionally remove only class-scope variables.
-                if (removeOnlyClassScope && !isClassScope()) {
-                    return vd;
-                }
+                        // Skip method parameters.
+                        if (isMethodParameter()) {
+                            return vd;
+                        }
 
+                        // Optionally remove only class-scope variables.
+                        if (removeOnlyClassScope && !isClassScope()) {
+                            return vd;
+                        }
 
-                // check if variable or initializer matches
-                if (!targetTypeMatcher.matches(vd.getType())) {
-                    // check of initializer of field is of target type
-                    Expression initializer = vd.getVariables().get(0).getInitializer();
-                    if (!(initializer instanceof J.MethodInvocation) || ((J.MethodInvocation) initializer).getSelect() == null) {
-                        return vd;
-                    }
 
-                    if (!targetTypeMatcher.matches(((J.MethodInvocation) initializer).getSelect().getType())) {
-                        return vd;
-                    }
-                    // maybe remove import of removed initializer class
-                    maybeRemoveImport(TypeUtils.asFullyQualified(((J.MethodInvocation) initializer).getSelect().getType()));
-                }
+                        // check if variable or initializer matches
+                        if (!targetTypeMatcher.matches(vd.getType())) {
+                            // check of initializer of field is of target type
+                            Expression initializer = vd.getVariables().get(0).getInitializer();
+                            if (!(initializer instanceof J.MethodInvocation) || ((J.MethodInvocation) initializer).getSelect() == null) {
+                                return vd;
+                            }
 
-                // Before removing, check if any declared variable has usages in scope
-                for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
-                    if (hasUsagesInScope(var.getName())) {
-                        return vd;
-                    }
-                }
+                            if (!targetTypeMatcher.matches(((J.MethodInvocation) initializer).getSelect().getType())) {
+                                return vd;
+                            }
+                            // maybe remove import of removed initializer class
+                            maybeRemoveImport(TypeUtils.asFullyQualified(((J.MethodInvocation) initializer).getSelect().getType()));
+                        }
 
-                maybeRemoveImport(vd.getTypeAsFullyQualified());
+                        // Before removing, check if any declared variable has usages in scope
+                        for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
+                            if (hasUsagesInScope(var.getName())) {
+                                return vd;
+                            }
+                        }
 
-                return null;
-            }
+                        maybeRemoveImport(vd.getTypeAsFullyQualified());
 
-            private boolean hasUsagesInScope(J.Identifier varIdentifier) {
-                J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
-                if (cu == null) {
-                    return false;
-                }
+                        return null;
+                    }
 
-                return new JavaIsoVisitor<AtomicBoolean>() {
-                    @Override
-                    public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
-                        if (!found.get() &&
-                                SemanticallyEqual.areEqual(identifier, varIdentifier) &&
-                                !(getCursor().getParentTreeCursor().getValue() instanceof J.VariableDeclarations.NamedVariable)) {
-                            found.set(true);
+                    private boolean hasUsagesInScope(J.Identifier varIdentifier) {
+                        Map<String, List<J.Identifier>> usages = getCursor().getNearestMessage(USAGES);
+                        if (usages == null) {
+                            return false;
+                        }
+
+                        List<J.Identifier> candidates = usages.get(varIdentifier.getSimpleName());
+                        if (candidates == null) {
+                            return false;
+                        }
+                        for (J.Identifier candidate : candidates) {
+                            if (SemanticallyEqual.areEqual(candidate, varIdentifier)) {
+                                return true;
+                            }
                         }
-                        return identifier;
+                        return false;
                     }
-                }.reduce(cu, new AtomicBoolean()).get();
-            }
 
-            private boolean isClassScope() {
-                return getCursor().dropParentUntil(J.class::isInstance).getValue() instanceof J.ClassDeclaration;
-            }
+                    private boolean isClassScope() {
+                        return getCursor().dropParentUntil(J.class::isInstance).getValue() instanceof J.ClassDeclaration;
+                    }
+
+                    private boolean isMethodParameter() {
+                        return getCursor().dropParentUntil(J.class::isInstance).getValue() instanceof J.MethodDeclaration;
+                    }
+                });
+    }
 
-            private boolean isMethodParameter() {
-                return getCursor().dropParentUntil(J.class::isInstance).getValue() instanceof J.MethodDeclaration;
+    /**
+     * Collects every identifier that is not itself a variable declaration, grouped by simple name,
+     * so usage lookups only need to compare against same-named references.
+     */
+    private static Map<String, List<J.Identifier>> indexUsages(J.CompilationUnit cu) {
+        return new JavaIsoVisitor<Map<String, List<J.Identifier>>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, List<J.Identifier>> usages) {
+                if (!(getCursor().getParentTreeCursor().getValue() instanceof J.VariableDeclarations.NamedVariable)) {
+                    usages.computeIfAbsent(identifier.getSimpleName(), k -> new ArrayList<>()).add(identifier);
+                }
+                return identifier;
             }
-        };
+        }.reduce(cu, new HashMap<>());
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.general;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The {@link JavaTemplate}s built by the recipes of this module. Each template is built once per run and kept in
+ * the execution context, so it is shared by all the source files of the run and released with it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplateCache {
+
+    private static final String TEMPLATES = TemplateCache.class.getName() + ".templates";
+    private static final String BUILT = TemplateCache.class.getName() + ".built";
+
+    /**
+     * @param owner the class building the template, so equal code built with different imports or parsers
+     *              by two recipes does not share a template
+     * @param code  the code of the template, or any other key identifying it within the owner
+     * @param build builds the template the first time it is needed in this run
+     */
+    public static JavaTemplate get(ExecutionContext ctx, Class<?> owner, String code, Supplier<JavaTemplate> build) {
+        Map<String, JavaTemplate> templates = ctx.computeMessageIfAbsent(TEMPLATES, k -> new ConcurrentHashMap<>());
+        return templates.computeIfAbsent(owner.getName() + '\0' + code, k -> {
+            ctx.computeMessageIfAbsent(BUILT, b -> new AtomicInteger()).incrementAndGet();
+            return build.get();
+        });
+    }
+
+    /**
+     * @return the number of templates built so far in this run
+     */
+    public static int built(ExecutionContext ctx) {
+        AtomicInteger built = ctx.getMessage(BUILT);
+        return built == null ? 0 : built.get();
+    }
+}
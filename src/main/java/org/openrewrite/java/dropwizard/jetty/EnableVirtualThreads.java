@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.jetty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.openrewrite.java.dropwizard.config.DropwizardConfiguration.isDropwizardConfiguration;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class EnableVirtualThreads extends ScanningRecipe<EnableVirtualThreads.Accumulator> {
+
+    private static final int MIN_JAVA_VERSION = 21;
+    private static final String ENABLE_VIRTUAL_THREADS = "enableVirtualThreads";
+
+    // Parsed once and copied with a new id into each configuration file
+    private static final Yaml.Mapping.@Nullable Entry ENABLE_ENTRY = enableVirtualThreads();
+
+    String displayName = "Enable virtual threads for the Dropwizard server";
+
+    String description = "Sets `server.enableVirtualThreads: true` in Dropwizard 5 configuration files, so that Jetty " +
+            "serves requests on virtual threads. Only applies when every Java source targets Java 21 or later. " +
+            "An explicit `enableVirtualThreads` setting is left as is.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    public static class Accumulator {
+        boolean javaSources;
+        boolean belowJava21;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    acc.javaSources = true;
+                    JavaVersion version = ((JavaSourceFile) tree).getMarkers().findFirst(JavaVersion.class).orElse(null);
+                    if (version == null || version.getMajorReleaseVersion() < MIN_JAVA_VERSION) {
+                        acc.belowJava21 = true;
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return stats.record(Preconditions.check(acc.javaSources && !acc.belowJava21, new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                if (!isDropwizardConfiguration(documents)) {
+                    return documents;
+                }
+                return super.visitDocuments(documents, ctx);
+            }
+
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
+                Yaml.Mapping.Entry e = super.visitMappingEntry(entry, ctx);
+                if (!"server".equals(e.getKey().getValue()) ||
+                    !(e.getValue() instanceof Yaml.Mapping) ||
+                    !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof Yaml.Document)) {
+                    return e;
+                }
+
+                Yaml.Mapping server = (Yaml.Mapping) e.getValue();
+                List<Yaml.Mapping.Entry> entries = server.getEntries();
+                if (entries.isEmpty() || entries.stream().anyMatch(it -> ENABLE_VIRTUAL_THREADS.equals(it.getKey().getValue()))) {
+                    return e;
+                }
+                if (ENABLE_ENTRY == null) {
+                    return e;
+                }
+                List<Yaml.Mapping.Entry> updated = new ArrayList<>(entries);
+                updated.add(ENABLE_ENTRY.withId(Tree.randomId()).withPrefix(entries.get(entries.size() - 1).getPrefix()));
+                return e.withValue(server.withEntries(updated));
+            }
+        }));
+    }
+
+    private static Yaml.Mapping.@Nullable Entry enableVirtualThreads() {
+        return YamlParser.builder().build()
+                .parse(ENABLE_VIRTUAL_THREADS + ": true")
+                .filter(Yaml.Documents.class::isInstance)
+                .map(Yaml.Documents.class::cast)
+                .map(yaml -> yaml.getDocuments().get(0).getBlock())
+                .filter(Yaml.Mapping.class::isInstance)
+                .map(block -> ((Yaml.Mapping) block).getEntries().get(0))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.jetty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindVirtualThreadPinning extends Recipe {
+
+    private static final String MANAGED = "io.dropwizard.lifecycle.Managed";
+    private static final String MESSAGE = "Blocks while holding a monitor, which pins the carrier thread of a virtual thread";
+
+    private static final List<String> BLOCKING_PACKAGES = asList(
+            "java.io.",
+            "java.net.",
+            "java.nio.channels.",
+            "java.nio.file.",
+            "java.sql.",
+            "javax.sql.");
+    private static final List<String> NON_BLOCKING_TYPES = asList(
+            "java.io.ByteArrayInputStream",
+            "java.io.ByteArrayOutputStream",
+            "java.io.CharArrayReader",
+            "java.io.CharArrayWriter",
+            "java.io.StringReader",
+            "java.io.StringWriter",
+            "java.net.URI",
+            "java.net.URLDecoder",
+            "java.net.URLEncoder");
+    private static final List<MethodMatcher> BLOCKING_METHODS = asList(
+            new MethodMatcher("java.lang.Thread sleep(..)"),
+            new MethodMatcher("java.lang.Thread join(..)"),
+            new MethodMatcher("java.lang.Object wait(..)"));
+
+    String displayName = "Find blocking calls that pin virtual threads";
+
+    String description = "Marks `synchronized` blocks and methods of Jersey resources and `Managed` objects that perform " +
+            "blocking I/O, sleep or wait while holding the monitor. On Java 21 up to 23 these pin the carrier thread, so " +
+            "enabling virtual threads does not increase throughput until they are replaced with a " +
+            "`java.util.concurrent.locks.ReentrantLock`.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeVisitors.of(this, stats,
+                Preconditions.or(
+                        new UsesType<>(MANAGED, true),
+                        new UsesType<>("javax.ws.rs.Path", false),
+                        new UsesType<>("jakarta.ws.rs.Path", false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Synchronized visitSynchronized(J.Synchronized sync, ExecutionContext ctx) {
+                        J.Synchronized s = super.visitSynchronized(sync, ctx);
+                        return inResourceOrManaged() && blocks(s.getBody()) ? SearchResult.found(s, MESSAGE) : s;
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        if (m.hasModifier(J.Modifier.Type.Synchronized) && m.getBody() != null &&
+                            inResourceOrManaged() && blocks(m.getBody())) {
+                            return SearchResult.found(m, MESSAGE);
+                        }
+                        return m;
+                    }
+
+                    private boolean inResourceOrManaged() {
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        return classDecl != null && isResourceOrManaged(classDecl);
+                    }
+                });
+    }
+
+    private static boolean isResourceOrManaged(J.ClassDeclaration classDecl) {
+        if (TypeUtils.isAssignableTo(MANAGED, classDecl.getType())) {
+            return true;
+        }
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), "javax.ws.rs.Path") ||
+                TypeUtils.isOfClassType(annotation.getType(), "jakarta.ws.rs.Path")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean blocks(J.Block body) {
+        AtomicBoolean blocking = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, AtomicBoolean found) {
+                // Runs later, outside the monitor
+                return lambda;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, AtomicBoolean found) {
+                return classDecl;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (isBlocking(method.getMethodType())) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                if (isBlocking(newClass.getMethodType())) {
+                    found.set(true);
+                }
+                return super.visitNewClass(newClass, found);
+            }
+        }.visit(body, blocking);
+        return blocking.get();
+    }
+
+    private static boolean isBlocking(JavaType.@Nullable Method method) {
+        if (method == null) {
+            return false;
+        }
+        for (MethodMatcher matcher : BLOCKING_METHODS) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        String declaringType = method.getDeclaringType().getFullyQualifiedName();
+        if (NON_BLOCKING_TYPES.contains(declaringType)) {
+            return false;
+        }
+        for (String blockingPackage : BLOCKING_PACKAGES) {
+            if (declaringType.startsWith(blockingPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
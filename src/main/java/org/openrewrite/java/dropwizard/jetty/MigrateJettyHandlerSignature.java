@@ -18,11 +18,12 @@ package org.openrewrite.java.dropwizard.jetty;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
@@ -46,6 +47,8 @@ public class MigrateJettyHandlerSignature extends Recipe {
             "This changes the `handle` method signature and updates `baseRequest.setHandled(true)` " +
             "to use `Callback` and return `true`.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     private static final String ABSTRACT_HANDLER = "org.eclipse.jetty.server.handler.AbstractHandler";
     private static final String JETTY_REQUEST = "org.eclipse.jetty.server.Request";
     private static final String JETTY_RESPONSE = "org.eclipse.jetty.server.Response";
@@ -58,7 +61,7 @@ public class MigrateJettyHandlerSignature extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return RecipeVisitors.of(this, stats,
                 new UsesType<>(ABSTRACT_HANDLER, false),
                 new JavaIsoVisitor<ExecutionContext>() {
 
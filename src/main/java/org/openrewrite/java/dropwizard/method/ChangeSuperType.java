@@ -26,11 +26,15 @@ import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.ShortenFullyQualifiedTypeReferences;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeTree;
 
+
 import static java.lang.Boolean.TRUE;
 import static org.openrewrite.java.tree.TypeUtils.asFullyQualified;
 import static org.openrewrite.java.tree.TypeUtils.isOfClassType;
@@ -39,6 +43,12 @@ import static org.openrewrite.java.tree.TypeUtils.isOfClassType;
 @Value
 public class ChangeSuperType extends Recipe {
 
+    /**
+     * Resolving the Spring Boot classpath is expensive, so the parser is built once per
+     * execution context and the templates, keyed by their code, are shared by all matched classes.
+     */
+    private static final String PARSER = ChangeSuperType.class.getName() + ".parser";
+
     @Option(displayName = "Target class",
             description = "The fully qualified name of the class whose superclass should be changed.",
             example = "com.myorg.MyClass")
@@ -68,9 +78,11 @@ public class ChangeSuperType extends Recipe {
 
     String description = "Changes the superclass of a specified class to a new superclass.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return RecipeVisitors.of(this, stats, new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.ClassDeclaration visitClassDeclaration(
                     J.ClassDeclaration classDecl, ExecutionContext ctx) {
@@ -85,12 +97,7 @@ public class ChangeSuperType extends Recipe {
                 maybeRemoveImport(targetClass);
                 maybeAddImport(newSuperclass);
 
-                JavaTemplate extendsTemplate = JavaTemplate.builder(newSuperclass + typeParams)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                                "spring-boot-actuator-2", "spring-boot-2"))
-                        .imports(newSuperclass)
-                        .contextSensitive()
-                        .build();
+                JavaTemplate extendsTemplate = extendsTemplate(newSuperclass + typeParams, ctx);
 
                 JavaType.FullyQualified newSuperType;
 
@@ -111,16 +118,22 @@ public class ChangeSuperType extends Recipe {
 
                 cd = cd.withType(((JavaType.Class) cd.getType()).withSupertype(newSuperType));
                 doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(cd));
-                doAfterVisit(new UpdateMethodTypesVisitor(cd.getType()));
-
-                if (TRUE.equals(removeUnnecessaryOverrides)) {
-                    doAfterVisit(new RemoveUnnecessaryOverride(false).getVisitor());
-                }
-
-                doAfterVisit(new RemoveUnnecessarySuperCalls.RemoveUnnecessarySuperCallsVisitor());
+                SupertypeChangeCleanup.register(this, cd, cd.getType(), TRUE.equals(removeUnnecessaryOverrides));
                 return cd;
             }
 
+            private JavaTemplate extendsTemplate(String supertype, ExecutionContext ctx) {
+                return TemplateCache.get(ctx, ChangeSuperType.class, supertype, () -> {
+                    JavaParser.Builder<?, ?> parser = ctx.computeMessageIfAbsent(PARSER, k -> JavaParser.fromJavaVersion()
+                            .classpathFromResources(ctx, "spring-boot-actuator-2", "spring-boot-2"));
+                    return JavaTemplate.builder(supertype)
+                            .javaParser(parser)
+                            .imports(newSuperclass)
+                            .contextSensitive()
+                            .build();
+                });
+            }
+
             private String getTypeParams(TypeTree extendsType) {
                 StringBuilder typeParams = new StringBuilder();
 
@@ -147,6 +160,6 @@ public class ChangeSuperType extends Recipe {
 
                 return typeParams.toString();
             }
-        };
+        });
     }
 }
@@ -20,6 +20,8 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveImplements;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -42,6 +44,8 @@ public class RemoveSuperTypeByType extends Recipe {
 
     String description = "Removes a specified type from class extends or implements clauses.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public List<Recipe> getRecipeList() {
         return singletonList(new RemoveImplements(typeToRemove, null));
@@ -49,7 +53,7 @@ public class RemoveSuperTypeByType extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return RecipeVisitors.of(this, stats,
                 new UsesType<>(typeToRemove, false),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -59,8 +63,7 @@ public class RemoveSuperTypeByType extends Recipe {
                         }
 
                         JavaType.ShallowClass type = (JavaType.ShallowClass) JavaType.buildType("java.lang.Object");
-                        doAfterVisit(new UpdateMethodTypesVisitor(type));
-                        doAfterVisit(new RemoveUnnecessarySuperCalls.RemoveUnnecessarySuperCallsVisitor());
+                        SupertypeChangeCleanup.register(this, classDecl, type, false);
 
                         return classDecl.withExtends(null);
                     }
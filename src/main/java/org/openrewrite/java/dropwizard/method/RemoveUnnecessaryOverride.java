@@ -22,6 +22,8 @@ import org.openrewrite.*;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.J;
@@ -32,7 +34,6 @@ import org.openrewrite.java.tree.TypeUtils;
 public class RemoveUnnecessaryOverride extends Recipe {
 
     private static final AnnotationMatcher OVERRIDE_ANNOTATION = new AnnotationMatcher("@java.lang.Override");
-    private static final RemoveAnnotationVisitor removeAnnotationVisitor = new RemoveAnnotationVisitor(OVERRIDE_ANNOTATION);
 
     @Option(
             displayName = "Ignore methods in anonymous classes",
@@ -46,11 +47,16 @@ public class RemoveUnnecessaryOverride extends Recipe {
     String description = "Removes `@Override` annotations from methods that don't actually override or implement any method. " +
                 "This helps maintain clean code by removing incorrect annotations that could be misleading.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return RecipeVisitors.of(this, stats,
                 new UsesType<>("java.lang.Override", false),
                 new JavaIsoVisitor<ExecutionContext>() {
+                    // Visitors keep a cursor, so one per recipe visitor rather than one shared by all threads
+                    private final RemoveAnnotationVisitor removeAnnotationVisitor = new RemoveAnnotationVisitor(OVERRIDE_ANNOTATION);
+
                     private Cursor getCursorToParentScope(Cursor cursor) {
                         return cursor.dropParentUntil(is -> is instanceof J.NewClass || is instanceof J.ClassDeclaration);
                     }
@@ -42,24 +42,24 @@ public class RemoveUnnecessarySuperCalls extends Recipe {
         public J.@Nullable MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
             J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
 
-            if (isSuperCall(mi)) {
-                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
-                if (classDecl != null) {
-                    if (!hasRealSuperclass(classDecl)) {
-                        return null;
-                    }
-                    if (!TypeUtils.isOverride(mi.getMethodType())) {
-                        return null;
-                    }
-                }
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            if (classDecl != null && isUnnecessarySuperCall(mi, classDecl)) {
+                return null;
             }
             return mi;
         }
 
+        /**
+         * Checks if this is a call on `super` that the given enclosing class can no longer make.
+         */
+        static boolean isUnnecessarySuperCall(J.MethodInvocation mi, J.ClassDeclaration classDecl) {
+            return isSuperCall(mi) && (!hasRealSuperclass(classDecl) || !TypeUtils.isOverride(mi.getMethodType()));
+        }
+
         /**
          * Checks if this is a call on `super`, like `super(...)` or `super.someMethod(...)`.
          */
-        private boolean isSuperCall(J.MethodInvocation mi) {
+        private static boolean isSuperCall(J.MethodInvocation mi) {
             // e.g. super.method()
             if (mi.getSelect() instanceof J.Identifier) {
                 return "super".equals(((J.Identifier) mi.getSelect()).getSimpleName());
@@ -71,7 +71,7 @@ public class RemoveUnnecessarySuperCalls extends Recipe {
         /**
          * Checks if the class extends some real superclass other than `java.lang.Object`.
          */
-        private boolean hasRealSuperclass(J.ClassDeclaration classDecl) {
+        private static boolean hasRealSuperclass(J.ClassDeclaration classDecl) {
             if (classDecl.getExtends() == null) {
                 return false;
             }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.method;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.openrewrite.java.dropwizard.method.RemoveUnnecessarySuperCalls.RemoveUnnecessarySuperCallsVisitor.isUnnecessarySuperCall;
+
+/**
+ * Cleans up after the supertype of one or more classes in a compilation unit was changed or removed.
+ * It is scheduled once per compilation unit and, in a single traversal, updates the method types of
+ * the affected classes, removes their {@code super} calls that can no longer resolve and, optionally,
+ * their {@code @Override} annotations that no longer override anything.
+ */
+class SupertypeChangeCleanup extends JavaIsoVisitor<ExecutionContext> {
+
+    private static final AnnotationMatcher OVERRIDE_ANNOTATION = new AnnotationMatcher("@java.lang.Override");
+
+    private final Map<String, UpdateMethodTypesVisitor> methodTypesByClass = new HashMap<>();
+    private final boolean removeUnnecessaryOverrides;
+    private final RemoveAnnotationVisitor removeOverride = new RemoveAnnotationVisitor(OVERRIDE_ANNOTATION);
+
+    private SupertypeChangeCleanup(boolean removeUnnecessaryOverrides) {
+        this.removeUnnecessaryOverrides = removeUnnecessaryOverrides;
+    }
+
+    /**
+     * Registers a class whose supertype was changed by {@code visitor}, scheduling the cleanup
+     * of its compilation unit the first time a class in it is registered.
+     *
+     * @param declaringType the type that overriding methods of the class are declared on from now on
+     */
+    static void register(JavaVisitor<ExecutionContext> visitor, J.ClassDeclaration classDecl,
+                         JavaType.FullyQualified declaringType, boolean removeUnnecessaryOverrides) {
+        Cursor sourceFile = visitor.getCursor().dropParentUntil(JavaSourceFile.class::isInstance);
+        SupertypeChangeCleanup cleanup = sourceFile.getMessage(SupertypeChangeCleanup.class.getName());
+        if (cleanup == null) {
+            cleanup = new SupertypeChangeCleanup(removeUnnecessaryOverrides);
+            sourceFile.putMessage(SupertypeChangeCleanup.class.getName(), cleanup);
+            visitor.doAfterVisit(cleanup);
+        }
+        if (classDecl.getType() != null) {
+            cleanup.methodTypesByClass.put(classDecl.getType().getFullyQualifiedName(), new UpdateMethodTypesVisitor(declaringType));
+        }
+    }
+
+    @Override
+    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+
+        Object scope = getCursor().dropParentUntil(is -> is instanceof J.NewClass || is instanceof J.ClassDeclaration).getValue();
+        UpdateMethodTypesVisitor methodTypes = scope instanceof J.ClassDeclaration ?
+                methodTypesOf((J.ClassDeclaration) scope) :
+                null;
+        if (methodTypes == null) {
+            return m;
+        }
+
+        m = methodTypes.visitMethodDeclaration(m, ctx);
+        if (removeUnnecessaryOverrides &&
+                !m.isConstructor() &&
+                !TypeUtils.isOverride(m.getMethodType()) &&
+                m.getLeadingAnnotations().stream().anyMatch(OVERRIDE_ANNOTATION::matches)) {
+            m = (J.MethodDeclaration) removeOverride.visit(m, ctx, getCursor().getParentTreeCursor());
+        }
+        return m;
+    }
+
+    @Override
+    public J.@Nullable MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+
+        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+        if (classDecl != null && methodTypesOf(classDecl) != null && isUnnecessarySuperCall(mi, classDecl)) {
+            return null;
+        }
+        return mi;
+    }
+
+    private @Nullable UpdateMethodTypesVisitor methodTypesOf(J.ClassDeclaration classDecl) {
+        return classDecl.getType() == null ? null : methodTypesByClass.get(classDecl.getType().getFullyQualifiedName());
+    }
+}
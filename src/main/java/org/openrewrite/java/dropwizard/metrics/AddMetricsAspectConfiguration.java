@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class AddMetricsAspectConfiguration extends ScanningRecipe<AddMetricsAspectConfiguration.Accumulator> {
+
+    private static final String CONFIGURATION_CLASS = "MetricsAspectConfiguration";
+
+    private static final List<String> TIMED_ANNOTATIONS = Arrays.asList(
+            "com.codahale.metrics.annotation.Timed",
+            "io.micrometer.core.annotation.Timed");
+    private static final List<String> COUNTED_ANNOTATIONS = Arrays.asList(
+            "com.codahale.metrics.annotation.Metered",
+            "com.codahale.metrics.annotation.ExceptionMetered",
+            "com.codahale.metrics.annotation.Counted",
+            "io.micrometer.core.annotation.Counted");
+    private static final List<String> RESOURCE_ANNOTATIONS = Arrays.asList(
+            "javax.ws.rs.Path",
+            "jakarta.ws.rs.Path");
+    private static final List<String> APPLICATION_TYPES = Arrays.asList(
+            "io.dropwizard.Application",
+            "io.dropwizard.core.Application");
+    private static final String SPRING_BOOT_APPLICATION = "org.springframework.boot.autoconfigure.SpringBootApplication";
+
+    private static final String[] SPRING_STUBS = {
+            "package org.springframework.context.annotation;\n" +
+            "public @interface Configuration {}",
+            "package org.springframework.context.annotation;\n" +
+            "public @interface Bean {}"
+    };
+
+    String displayName = "Register Micrometer `TimedAspect` and `CountedAspect` beans";
+
+    String description = "Micrometer's `@Timed` and `@Counted` only take effect on Spring beans when the `TimedAspect` " +
+            "and `CountedAspect` beans are registered. Spring Boot's Jersey integration times `@Timed` resource methods " +
+            "by itself, but `@Timed` anywhere else and `@Counted` anywhere are silently ignored without the aspects. " +
+            "When such annotations are found on a method or class, generates a `@Configuration` class registering " +
+            "both aspects next to the application class.";
+
+    public static class Accumulator {
+        boolean aspectsNeeded;
+        boolean aspectsRegistered;
+
+        @Nullable
+        J.CompilationUnit application;
+
+        final Set<Path> sourcePaths = new HashSet<>();
+
+        /**
+         * @return the application class next to which the aspects are to be registered, or {@code null} when
+         * they are not needed, already registered or there is no application class
+         */
+        J.@Nullable CompilationUnit applicationMissingAspects() {
+            if (!aspectsNeeded || aspectsRegistered || application == null ||
+                sourcePaths.contains(configurationPath(application))) {
+                return null;
+            }
+            return application;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return scanner(acc);
+    }
+
+    /**
+     * Shared with {@link FindMissingMetricsAspects}, so the starter is added on the same condition as the aspects.
+     */
+    static TreeVisitor<?, ExecutionContext> scanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.sourcePaths.add(((SourceFile) tree).getSourcePath());
+                }
+                if (tree instanceof JavaSourceFile) {
+                    for (JavaType type : ((JavaSourceFile) tree).getTypesInUse().getTypesInUse()) {
+                        if (TypeUtils.isOfClassType(type, Micrometer.TIMED_ASPECT) ||
+                            TypeUtils.isOfClassType(type, Micrometer.COUNTED_ASPECT)) {
+                            acc.aspectsRegistered = true;
+                        }
+                    }
+                }
+                return super.visit(tree, ctx);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                if (acc.application == null && isApplication(classDecl)) {
+                    acc.application = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+                }
+                // Annotated classes have all their methods counted or timed
+                if (needsAspects(classDecl.getLeadingAnnotations(), classDecl)) {
+                    acc.aspectsNeeded = true;
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                if (needsAspects(method.getLeadingAnnotations(), getCursor().firstEnclosing(J.ClassDeclaration.class))) {
+                    acc.aspectsNeeded = true;
+                }
+                return method;
+            }
+        };
+    }
+
+    private static boolean needsAspects(List<J.Annotation> annotations, J.@Nullable ClassDeclaration owner) {
+        for (J.Annotation annotation : annotations) {
+            if (isAnyOf(annotation, COUNTED_ANNOTATIONS) ||
+                isAnyOf(annotation, TIMED_ANNOTATIONS) && (owner == null || !isResource(owner))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        J.CompilationUnit application = acc.applicationMissingAspects();
+        if (application == null) {
+            return emptyList();
+        }
+        Path sourcePath = configurationPath(application);
+        J.Package pkg = application.getPackageDeclaration();
+        String source = (pkg == null ? "" : "package " + pkg.getPackageName() + ";\n\n") +
+                "import io.micrometer.core.aop.CountedAspect;\n" +
+                "import io.micrometer.core.aop.TimedAspect;\n" +
+                "import io.micrometer.core.instrument.MeterRegistry;\n" +
+                "import org.springframework.context.annotation.Bean;\n" +
+                "import org.springframework.context.annotation.Configuration;\n" +
+                "\n" +
+                "@Configuration\n" +
+                "public class " + CONFIGURATION_CLASS + " {\n" +
+                "\n" +
+                "    @Bean\n" +
+                "    public TimedAspect timedAspect(MeterRegistry registry) {\n" +
+                "        return new TimedAspect(registry);\n" +
+                "    }\n" +
+                "\n" +
+                "    @Bean\n" +
+                "    public CountedAspect countedAspect(MeterRegistry registry) {\n" +
+                "        return new CountedAspect(registry);\n" +
+                "    }\n" +
+                "}\n";
+        return Micrometer.parser(SPRING_STUBS).build()
+                .parse(ctx, source)
+                // Same project and source set as the application, so that dependency recipes see the class
+                .map(sourceFile -> (SourceFile) sourceFile.withSourcePath(sourcePath).withMarkers(application.getMarkers()))
+                .collect(toList());
+    }
+
+    private static Path configurationPath(J.CompilationUnit application) {
+        return application.getSourcePath().resolveSibling(CONFIGURATION_CLASS + ".java");
+    }
+
+    private static boolean isApplication(J.ClassDeclaration classDecl) {
+        if (classDecl.getLeadingAnnotations().stream()
+                .anyMatch(annotation -> TypeUtils.isOfClassType(annotation.getType(), SPRING_BOOT_APPLICATION))) {
+            return true;
+        }
+        TypeTree superclass = classDecl.getExtends();
+        return superclass != null && APPLICATION_TYPES.stream().anyMatch(type -> TypeUtils.isAssignableTo(type, superclass.getType()));
+    }
+
+    private static boolean isResource(J.ClassDeclaration classDecl) {
+        return classDecl.getLeadingAnnotations().stream().anyMatch(annotation -> isAnyOf(annotation, RESOURCE_ANNOTATIONS));
+    }
+
+    private static boolean isAnyOf(J.Annotation annotation, List<String> types) {
+        return types.stream().anyMatch(type -> TypeUtils.isOfClassType(annotation.getType(), type));
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class CodahaleGaugeToMicrometerGauge extends Recipe {
+
+    private static final String GAUGE = "com.codahale.metrics.annotation.Gauge";
+    private static final String CACHED_GAUGE = "com.codahale.metrics.annotation.CachedGauge";
+    private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+    private static final String TIME_UNIT = "java.util.concurrent.TimeUnit";
+    private static final String SUPPLIER = "java.util.function.Supplier";
+    private static final String REGISTER_METHOD = "registerGauges";
+    private static final String MEMOIZE_METHOD = "memoizeWithTimeout";
+    private static final String GAUGES = CodahaleGaugeToMicrometerGauge.class.getName() + ".gauges";
+    private static final String ALREADY_REGISTERING = "The class already declares a " + REGISTER_METHOD + " method";
+
+    // Annotations making a class a Spring bean, including JAX-RS types the migration turns into components
+    private static final List<String> BEAN_ANNOTATIONS = Arrays.asList(
+            "org.springframework.stereotype.Component",
+            "org.springframework.stereotype.Controller",
+            "org.springframework.stereotype.Repository",
+            "org.springframework.stereotype.Service",
+            "org.springframework.context.annotation.Configuration",
+            "org.springframework.boot.autoconfigure.SpringBootApplication",
+            "org.springframework.web.bind.annotation.RestController",
+            "javax.ws.rs.Path",
+            "javax.ws.rs.ext.Provider",
+            "jakarta.ws.rs.Path",
+            "jakarta.ws.rs.ext.Provider");
+
+    // Spring is not on the parser classpath of this module
+    private static final String AUTOWIRED_STUB = "package org.springframework.beans.factory.annotation;\n" +
+            "public @interface Autowired {}";
+
+    private static final String MEMOIZE_WITH_TIMEOUT = "private static <T> Supplier<T> " + MEMOIZE_METHOD +
+            "(Supplier<T> supplier, long timeout, TimeUnit unit) {\n" +
+            "    long timeoutNanos = unit.toNanos(timeout);\n" +
+            "    return new Supplier<T>() {\n" +
+            "        private T value;\n" +
+            "        private long expiresAt;\n" +
+            "        private boolean loaded;\n" +
+            "\n" +
+            "        @Override\n" +
+            "        public synchronized T get() {\n" +
+            "            long now = System.nanoTime();\n" +
+            "            if (!loaded || now - expiresAt >= 0) {\n" +
+            "                value = supplier.get();\n" +
+            "                expiresAt = now + timeoutNanos;\n" +
+            "                loaded = true;\n" +
+            "            }\n" +
+            "            return value;\n" +
+            "        }\n" +
+            "    };\n" +
+            "}";
+
+    String displayName = "Replace `@Gauge` and `@CachedGauge` (Dropwizard) with Micrometer gauges";
+
+    String description = "Replaces Dropwizard's `@Gauge` and `@CachedGauge` on methods and fields with `Gauge.builder` " +
+            "registrations in an `@Autowired` initializer method of the same bean. Names are prefixed with the class name " +
+            "unless `absolute = true`, as Dropwizard does. Classes that are not Spring beans, whose initializer would " +
+            "never be called, are marked. " +
+            "`@CachedGauge` values are read through a memoizing supplier with the same timeout, so an expensive " +
+            "value is not recomputed on every scrape. Gauges of non-numeric values, and gauge methods taking " +
+            "parameters, and gauges of classes already declaring a `registerGauges` method are marked.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeVisitors.of(this, stats,
+                Preconditions.or(
+                        new UsesType<>(GAUGE, false),
+                        new UsesType<>(CACHED_GAUGE, false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    // Visitors keep a cursor, so one per recipe visitor rather than one shared by all threads
+                    private final RemoveAnnotationVisitor removeGauge = new RemoveAnnotationVisitor(new AnnotationMatcher("@" + GAUGE));
+                    private final RemoveAnnotationVisitor removeCachedGauge = new RemoveAnnotationVisitor(new AnnotationMatcher("@" + CACHED_GAUGE));
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration c = super.visitClassDeclaration(classDecl, ctx);
+                        List<Registration> registrations = getCursor().pollMessage(GAUGES);
+                        if (registrations == null) {
+                            return c;
+                        }
+
+                        StringBuilder code = new StringBuilder("@Autowired\nvoid " + REGISTER_METHOD + "(MeterRegistry registry) {\n");
+                        List<Expression> parameters = new ArrayList<>();
+                        boolean memoized = false;
+                        for (Registration registration : registrations) {
+                            code.append("    Gauge.builder(").append(registration.code).append(").register(registry);\n");
+                            parameters.addAll(registration.parameters);
+                            memoized |= registration.memoized;
+                        }
+                        code.append("}");
+
+                        c = template(code.toString(), ctx).apply(updateCursor(c), c.getBody().getCoordinates().lastStatement(), parameters.toArray());
+                        if (memoized && !declaresMethod(c, MEMOIZE_METHOD)) {
+                            c = template(MEMOIZE_WITH_TIMEOUT, ctx).apply(updateCursor(c), c.getBody().getCoordinates().lastStatement());
+                            maybeAddImport(SUPPLIER);
+                        }
+                        maybeRemoveImport(GAUGE);
+                        maybeRemoveImport(CACHED_GAUGE);
+                        maybeAddImport(AUTOWIRED);
+                        maybeAddImport(Micrometer.METER_REGISTRY);
+                        maybeAddImport(Micrometer.GAUGE);
+                        maybeAddImport(TIME_UNIT);
+                        return isBean(c) ? c : SearchResult.found(c, "Gauges are only registered when this class is a Spring bean");
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        J.Annotation gauge = findGauge(m.getLeadingAnnotations());
+                        if (gauge == null || !isMember()) {
+                            return m;
+                        }
+                        if (m.getParameters().stream().anyMatch(p -> !(p instanceof J.Empty))) {
+                            return markGauge(m, "Micrometer gauges cannot take parameters");
+                        }
+                        if (m.getReturnTypeExpression() == null || !isNumeric(m.getReturnTypeExpression().getType())) {
+                            return markGauge(m, "Micrometer gauges must return a number");
+                        }
+                        J.ClassDeclaration owner = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+                        if (declaresMethod(owner, REGISTER_METHOD)) {
+                            return markGauge(m, ALREADY_REGISTERING);
+                        }
+
+                        boolean isStatic = m.hasModifier(J.Modifier.Type.Static);
+                        String supplier = (isStatic ? owner.getSimpleName() : "this") + "::" + m.getSimpleName();
+                        register(gauge, supplier, owner, m.getSimpleName());
+                        return (J.MethodDeclaration) removeGauges(m, ctx);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations v = super.visitVariableDeclarations(multiVariable, ctx);
+                        J.Annotation gauge = findGauge(v.getLeadingAnnotations());
+                        if (gauge == null || !isMember()) {
+                            return v;
+                        }
+                        if (v.getVariables().size() != 1) {
+                            return markGauge(v, "Declare each gauge field separately");
+                        }
+                        if (!isNumeric(v.getType())) {
+                            return markGauge(v, "Micrometer gauges must return a number");
+                        }
+                        J.ClassDeclaration owner = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+                        if (declaresMethod(owner, REGISTER_METHOD)) {
+                            return markGauge(v, ALREADY_REGISTERING);
+                        }
+
+                        String name = v.getVariables().get(0).getSimpleName();
+                        register(gauge, "() -> " + name, owner, name);
+                        return (J.VariableDeclarations) removeGauges(v, ctx);
+                    }
+
+                    private boolean isMember() {
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        return parent.getValue() instanceof J.Block &&
+                               parent.getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+                    }
+
+                    private void register(J.Annotation gauge, String supplier, J.ClassDeclaration owner, String memberName) {
+                        Map<String, Expression> arguments = arguments(gauge);
+                        Registration registration = new Registration();
+                        // Dropwizard qualifies gauge names by their class, unless absolute, and defaults them to the member
+                        String className = owner.getType() == null ? owner.getSimpleName() : owner.getType().getFullyQualifiedName();
+                        String prefix = className.replace('$', '.') + ".";
+                        Expression name = arguments.get("name");
+                        if (name == null) {
+                            registration.code.append('"').append(prefix).append(memberName).append('"');
+                        } else if (isTrue(arguments.get("absolute"))) {
+                            registration.code.append("#{any(java.lang.String)}");
+                            registration.parameters.add(name);
+                        } else if (isStringLiteral(name)) {
+                            registration.code.append('"').append(prefix).append(((J.Literal) name).getValueSource().substring(1));
+                        } else {
+                            registration.code.append('"').append(prefix).append("\" + #{any(java.lang.String)}");
+                            registration.parameters.add(name);
+                        }
+                        registration.code.append(", ");
+
+                        if (TypeUtils.isOfClassType(gauge.getType(), CACHED_GAUGE)) {
+                            registration.memoized = true;
+                            registration.code.append(MEMOIZE_METHOD).append('(').append(supplier).append(", #{any(long)}, ");
+                            registration.parameters.add(arguments.get("timeout"));
+                            if (arguments.containsKey("timeoutUnit")) {
+                                registration.code.append("#{any(java.util.concurrent.TimeUnit)}");
+                                registration.parameters.add(arguments.get("timeoutUnit"));
+                            } else {
+                                registration.code.append("TimeUnit.MILLISECONDS");
+                            }
+                            registration.code.append(')');
+                        } else {
+                            registration.code.append(supplier);
+                        }
+
+                        getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance)
+                                .computeMessageIfAbsent(GAUGES, k -> new ArrayList<Registration>())
+                                .add(registration);
+                    }
+
+                    private J removeGauges(J member, ExecutionContext ctx) {
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        J j = removeGauge.visit(member, ctx, parent);
+                        return removeCachedGauge.visit(j, ctx, parent);
+                    }
+                });
+    }
+
+    private static class Registration {
+        final StringBuilder code = new StringBuilder();
+        final List<Expression> parameters = new ArrayList<>();
+        boolean memoized;
+    }
+
+    private static J.MethodDeclaration markGauge(J.MethodDeclaration method, String reason) {
+        return method.withLeadingAnnotations(markGauge(method.getLeadingAnnotations(), reason));
+    }
+
+    private static J.VariableDeclarations markGauge(J.VariableDeclarations field, String reason) {
+        return field.withLeadingAnnotations(markGauge(field.getLeadingAnnotations(), reason));
+    }
+
+    private static List<J.Annotation> markGauge(List<J.Annotation> annotations, String reason) {
+        return ListUtils.map(annotations, a -> isGauge(a) ? SearchResult.found(a, reason) : a);
+    }
+
+    private static J.@Nullable Annotation findGauge(List<J.Annotation> annotations) {
+        for (J.Annotation annotation : annotations) {
+            if (isGauge(annotation)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGauge(J.Annotation annotation) {
+        return TypeUtils.isOfClassType(annotation.getType(), GAUGE) ||
+               TypeUtils.isOfClassType(annotation.getType(), CACHED_GAUGE);
+    }
+
+    private static boolean isNumeric(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            switch ((JavaType.Primitive) type) {
+                case Byte:
+                case Short:
+                case Int:
+                case Long:
+                case Float:
+                case Double:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return TypeUtils.isAssignableTo("java.lang.Number", type);
+    }
+
+    private static boolean isStringLiteral(Expression expression) {
+        if (!(expression instanceof J.Literal) || !(((J.Literal) expression).getValue() instanceof String)) {
+            return false;
+        }
+        String valueSource = ((J.Literal) expression).getValueSource();
+        return valueSource != null && valueSource.startsWith("\"") && !valueSource.startsWith("\"\"\"");
+    }
+
+    private static boolean isTrue(@Nullable Expression expression) {
+        return expression instanceof J.Literal && Boolean.TRUE.equals(((J.Literal) expression).getValue());
+    }
+
+    private static boolean isBean(J.ClassDeclaration classDecl) {
+        return classDecl.getLeadingAnnotations().stream()
+                .anyMatch(annotation -> BEAN_ANNOTATIONS.stream().anyMatch(type -> TypeUtils.isOfClassType(annotation.getType(), type)));
+    }
+
+    private static boolean declaresMethod(J.ClassDeclaration classDecl, String name) {
+        return classDecl.getBody().getStatements().stream()
+                .anyMatch(s -> s instanceof J.MethodDeclaration && name.equals(((J.MethodDeclaration) s).getSimpleName()));
+    }
+
+    private static Map<String, Expression> arguments(J.Annotation annotation) {
+        Map<String, Expression> arguments = new HashMap<>();
+        for (Expression argument : annotation.getArguments() == null ?
+                Collections.<Expression>emptyList() : annotation.getArguments()) {
+            if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier) {
+                arguments.put(((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName(),
+                        ((J.Assignment) argument).getAssignment());
+            }
+        }
+        return arguments;
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, CodahaleGaugeToMicrometerGauge.class, code, () -> JavaTemplate.builder(code)
+                .contextSensitive()
+                .imports(AUTOWIRED, Micrometer.METER_REGISTRY, Micrometer.GAUGE, TIME_UNIT, SUPPLIER)
+                .javaParser(Micrometer.parser(AUTOWIRED_STUB))
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.SearchResult;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindMissingMetricsAspects extends ScanningRecipe<AddMetricsAspectConfiguration.Accumulator> {
+
+    String displayName = "Find projects missing the Micrometer metrics aspects";
+
+    String description = "Marks the build files and other non-Java sources of the project that " +
+            "`AddMetricsAspectConfiguration` generates the `TimedAspect` and `CountedAspect` beans for. Used as a " +
+            "precondition of adding `spring-boot-starter-aop`, as the generated class is not scanned in the run " +
+            "that creates it.";
+
+    @Override
+    public AddMetricsAspectConfiguration.Accumulator getInitialValue(ExecutionContext ctx) {
+        return new AddMetricsAspectConfiguration.Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AddMetricsAspectConfiguration.Accumulator acc) {
+        return AddMetricsAspectConfiguration.scanner(acc);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AddMetricsAspectConfiguration.Accumulator acc) {
+        J.CompilationUnit application = acc.applicationMissingAspects();
+        if (application == null) {
+            return TreeVisitor.noop();
+        }
+        JavaProject project = application.getMarkers().findFirst(JavaProject.class).orElse(null);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || tree instanceof JavaSourceFile) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                if (project != null && !sourceFile.getMarkers().findFirst(JavaProject.class)
+                        .map(p -> p.getId().equals(project.getId()))
+                        .orElse(false)) {
+                    return sourceFile;
+                }
+                return SearchResult.found(sourceFile);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openrewrite.java.JavaParser;
+
+import java.util.Arrays;
+
+/**
+ * Micrometer is not on the parser classpath of this module, so the templates producing Micrometer code
+ * are typed against stubs of the few types they use.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class Micrometer {
+
+    static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+    static final String SIMPLE_METER_REGISTRY = "io.micrometer.core.instrument.simple.SimpleMeterRegistry";
+    static final String COUNTER = "io.micrometer.core.instrument.Counter";
+    static final String DISTRIBUTION_SUMMARY = "io.micrometer.core.instrument.DistributionSummary";
+    static final String TIMER = "io.micrometer.core.instrument.Timer";
+    static final String TIMER_SAMPLE = "io.micrometer.core.instrument.Timer$Sample";
+    static final String GAUGE = "io.micrometer.core.instrument.Gauge";
+    static final String TIMED_ASPECT = "io.micrometer.core.aop.TimedAspect";
+    static final String COUNTED_ASPECT = "io.micrometer.core.aop.CountedAspect";
+
+    private static final String[] STUBS = {
+            "package io.micrometer.core.instrument;\n" +
+            "public abstract class MeterRegistry {\n" +
+            "    public Counter counter(String name, String... tags) { return null; }\n" +
+            "    public DistributionSummary summary(String name, String... tags) { return null; }\n" +
+            "    public Timer timer(String name, String... tags) { return null; }\n" +
+            "}",
+            "package io.micrometer.core.instrument.simple;\n" +
+            "public class SimpleMeterRegistry extends io.micrometer.core.instrument.MeterRegistry {\n" +
+            "}",
+            "package io.micrometer.core.instrument;\n" +
+            "public interface Counter {\n" +
+            "    void increment();\n" +
+            "    void increment(double amount);\n" +
+            "}",
+            "package io.micrometer.core.instrument;\n" +
+            "public interface DistributionSummary {\n" +
+            "    void record(double amount);\n" +
+            "}",
+            "package io.micrometer.core.instrument;\n" +
+            "public interface Timer {\n" +
+            "    static Sample start() { return null; }\n" +
+            "    static Sample start(MeterRegistry registry) { return null; }\n" +
+            "    class Sample {\n" +
+            "        public long stop(Timer timer) { return 0; }\n" +
+            "    }\n" +
+            "}",
+            "package io.micrometer.core.instrument;\n" +
+            "public interface Gauge {\n" +
+            "    static Builder<java.util.function.Supplier<Number>> builder(String name, java.util.function.Supplier<Number> f) { return null; }\n" +
+            "    class Builder<T> {\n" +
+            "        public Gauge register(MeterRegistry registry) { return null; }\n" +
+            "    }\n" +
+            "}",
+            "package io.micrometer.core.aop;\n" +
+            "public class TimedAspect {\n" +
+            "    public TimedAspect(io.micrometer.core.instrument.MeterRegistry registry) {}\n" +
+            "}",
+            "package io.micrometer.core.aop;\n" +
+            "public class CountedAspect {\n" +
+            "    public CountedAspect(io.micrometer.core.instrument.MeterRegistry registry) {}\n" +
+            "}"
+    };
+
+    static JavaParser.Builder<?, ?> parser(String... additionalStubs) {
+        String[] stubs = Arrays.copyOf(STUBS, STUBS.length + additionalStubs.length);
+        System.arraycopy(additionalStubs, 0, stubs, STUBS.length, additionalStubs.length);
+        return JavaParser.fromJavaVersion().dependsOn(stubs);
+    }
+}
@@ -0,0 +1,771 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static org.openrewrite.Tree.randomId;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateMetricRegistryToMeterRegistry extends Recipe {
+
+    private static final String METRIC_REGISTRY = "com.codahale.metrics.MetricRegistry";
+    private static final String TIMER_CONTEXT = "com.codahale.metrics.Timer$Context";
+    private static final String METERS = "METERS";
+    private static final String USED_METERS = "USED_METERS";
+    private static final String SAMPLES = "SAMPLES";
+
+    private static final MethodMatcher NAME = new MethodMatcher(METRIC_REGISTRY + " name(..)");
+    private static final MethodMatcher NEW_REGISTRY = new MethodMatcher(METRIC_REGISTRY + " <constructor>()");
+    private static final MethodMatcher METER = new MethodMatcher(METRIC_REGISTRY + " meter(String)");
+    private static final MethodMatcher COUNTER = new MethodMatcher(METRIC_REGISTRY + " counter(String)");
+    private static final MethodMatcher HISTOGRAM = new MethodMatcher(METRIC_REGISTRY + " histogram(String)");
+    private static final MethodMatcher TIMER = new MethodMatcher(METRIC_REGISTRY + " timer(String)");
+    private static final MethodMatcher TIME = new MethodMatcher("com.codahale.metrics.Timer time()");
+    private static final MethodMatcher STOP = new MethodMatcher(TIMER_CONTEXT + " stop()");
+    private static final MethodMatcher DEC = new MethodMatcher("com.codahale.metrics.Counter dec(..)");
+
+    private static final List<Operation> OPERATIONS = asList(
+            new Operation(new MethodMatcher("com.codahale.metrics.Meter mark(..)"), "increment"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Counter inc(..)"), "increment"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Histogram update(..)"), "record"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Timer update(..)"), "record"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Timer time(java.util.concurrent.Callable)"), "recordCallable"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Timer time(java.lang.Runnable)"), "record"),
+            new Operation(new MethodMatcher("com.codahale.metrics.Timer timeSupplier(java.util.function.Supplier)"), "record"));
+
+    private static final Map<String, Kind> CODAHALE_METERS = new LinkedHashMap<>();
+
+    static {
+        CODAHALE_METERS.put("com.codahale.metrics.Meter", Kind.COUNTER);
+        CODAHALE_METERS.put("com.codahale.metrics.Counter", Kind.COUNTER);
+        CODAHALE_METERS.put("com.codahale.metrics.Histogram", Kind.SUMMARY);
+        CODAHALE_METERS.put("com.codahale.metrics.Timer", Kind.TIMER);
+    }
+
+    String displayName = "Migrate `MetricRegistry` usage to Micrometer `MeterRegistry`";
+
+    String description = "Rewrites direct use of the Dropwizard `MetricRegistry` to Micrometer: `meter(name).mark()` and " +
+            "`counter(name).inc()` become `Counter.increment()`, `histogram(name).update(v)` becomes " +
+            "`DistributionSummary.record(v)`, and timers are recorded with `Timer.record` or a `Timer.Sample`, also when " +
+            "the timer context is a try-with-resources resource. Fields and variables holding Codahale meters become the " +
+            "equivalent Micrometer meters. Meters with a constant name on a registry field are looked up once into fields " +
+            "of the class, instead of on every call. Files that use the registry or its meters in a way that has no " +
+            "Micrometer equivalent, such as `register`, `getTimers` or `Counter.dec`, are only marked and otherwise left unchanged.";
+
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    @Value
+    private static class Operation {
+        MethodMatcher matcher;
+        String micrometerMethod;
+    }
+
+    @RequiredArgsConstructor
+    private enum Kind {
+        COUNTER("counter", Micrometer.COUNTER, "Counter"),
+        SUMMARY("summary", Micrometer.DISTRIBUTION_SUMMARY, "Summary"),
+        TIMER("timer", Micrometer.TIMER, "Timer");
+
+        final String method;
+        final String type;
+        final String suffix;
+
+        String simpleTypeName() {
+            return type.substring(type.lastIndexOf('.') + 1);
+        }
+    }
+
+    /**
+     * A meter looked up once into a field of the class, initialized right after the registry it comes from.
+     */
+    @Value
+    private static class Meter {
+        Kind kind;
+        J.VariableDeclarations registry;
+        String registryName;
+        Expression name;
+        String field;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeVisitors.of(this, stats, new UsesType<>(METRIC_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                J.CompilationUnit marked = (J.CompilationUnit) new MarkUnsupportedUsages().visitNonNull(cu, ctx);
+                if (marked != cu) {
+                    // changing the registry type of a file with usages left behind would not compile
+                    return marked;
+                }
+                doAfterVisit(new ChangeType(METRIC_REGISTRY, Micrometer.METER_REGISTRY, true).getVisitor());
+                for (Map.Entry<String, Kind> meter : CODAHALE_METERS.entrySet()) {
+                    doAfterVisit(new ChangeType(meter.getKey(), meter.getValue().type, true).getVisitor());
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                for (Statement statement : b.getStatements()) {
+                    if (statement instanceof J.Try && timedResource((J.Try) statement) != null) {
+                        b = stopInFinally(b, (J.Try) statement, ctx);
+                    }
+                }
+                return b;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                getCursor().putMessage(METERS, hoistableMeters(classDecl));
+                getCursor().putMessage(USED_METERS, new LinkedHashSet<Meter>());
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+
+                Set<Meter> used = getCursor().getMessage(USED_METERS, Collections.<Meter>emptySet());
+                Map<J.VariableDeclarations, List<Meter>> byRegistry = new LinkedHashMap<>();
+                for (Meter meter : used) {
+                    byRegistry.computeIfAbsent(meter.getRegistry(), k -> new ArrayList<>()).add(meter);
+                    maybeAddImport(meter.getKind().type);
+                }
+                for (Map.Entry<J.VariableDeclarations, List<Meter>> registry : byRegistry.entrySet()) {
+                    cd = addMeterFields(cd, registry.getKey(), registry.getValue(), ctx);
+                }
+                return cd;
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                Kind kind = CODAHALE_METERS.get(fullyQualifiedName(vd.getType()));
+                if (kind != null) {
+                    // private final Meter meter = registry.meter(name);
+                    return vd.withVariables(ListUtils.map(vd.getVariables(), v -> v.getInitializer() instanceof J.MethodInvocation ?
+                            v.withInitializer(micrometerLookup((J.MethodInvocation) v.getInitializer(), kind)) : v));
+                }
+                if (!isSample(vd, getCursor().getParentTreeCursor().getValue())) {
+                    return vd;
+                }
+
+                // Timer.Context context = registry.timer(name).time();
+                J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                Expression timer = ((J.MethodInvocation) requireNonNull(variable.getInitializer())).getSelect();
+                getCursor().getParentTreeCursor().<Map<String, Expression>>computeMessageIfAbsent(SAMPLES, k -> new HashMap<>())
+                        .put(variable.getSimpleName(), micrometerTimer(timer));
+                return startSample(updateCursor(vd), vd.getCoordinates().replace(), variable.getSimpleName(), timer, ctx);
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+                J.Assignment a = super.visitAssignment(assignment, ctx);
+                Kind kind = CODAHALE_METERS.get(fullyQualifiedName(a.getVariable().getType()));
+                if (kind != null && a.getAssignment() instanceof J.MethodInvocation) {
+                    // this.meter = registry.meter(name);
+                    return a.withAssignment(micrometerLookup((J.MethodInvocation) a.getAssignment(), kind));
+                }
+                return a;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass nc = super.visitNewClass(newClass, ctx);
+                if (NEW_REGISTRY.matches(nc)) {
+                    maybeAddImport(Micrometer.SIMPLE_METER_REGISTRY);
+                    return template("new SimpleMeterRegistry()", ctx).apply(updateCursor(nc), nc.getCoordinates().replace());
+                }
+                return nc;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                if (NAME.matches(mi)) {
+                    return joinName(mi, ctx);
+                } else if (STOP.matches(mi) && mi.getSelect() instanceof J.Identifier) {
+                    J.Identifier sample = (J.Identifier) mi.getSelect();
+                    Map<String, Expression> samples = getCursor().getNearestMessage(SAMPLES, emptyMap());
+                    Expression timer = samples.get(sample.getSimpleName());
+                    if (timer != null) {
+                        JavaType sampleType = JavaType.ShallowClass.build(Micrometer.TIMER_SAMPLE);
+                        sample = sample.withType(sampleType)
+                                .withFieldType(sample.getFieldType() == null ? null : sample.getFieldType().withType(sampleType));
+                        return template("#{any()}.stop(#{any()})", ctx)
+                                .apply(updateCursor(mi), mi.getCoordinates().replace(), sample, timer);
+                    }
+                    return mi;
+                }
+
+                Kind kind = kind(mi.getSelect());
+                if (kind == null) {
+                    return mi;
+                }
+                for (Operation operation : OPERATIONS) {
+                    if (operation.getMatcher().matches(mi)) {
+                        JavaType.Method type = mi.getMethodType() == null ? null : mi.getMethodType()
+                                .withName(operation.getMicrometerMethod())
+                                .withDeclaringType(JavaType.ShallowClass.build(kind.type));
+                        maybeRemoveImport("com.codahale.metrics.Meter");
+                        maybeRemoveImport("com.codahale.metrics.Counter");
+                        maybeRemoveImport("com.codahale.metrics.Histogram");
+                        maybeRemoveImport("com.codahale.metrics.Timer");
+                        Expression select = requireNonNull(mi.getSelect());
+                        return mi.withSelect(select instanceof J.MethodInvocation ?
+                                        micrometerLookup((J.MethodInvocation) select, kind) : retype(select, kind))
+                                .withName(mi.getName().withSimpleName(operation.getMicrometerMethod()).withType(type))
+                                .withMethodType(type);
+                    }
+                }
+                return mi;
+            }
+
+            /**
+             * Replaces a try-with-resources whose only resource is a timer context by a {@code Timer.Sample}
+             * started before the {@code try} and stopped in its {@code finally}.
+             */
+            private J.Block stopInFinally(J.Block b, J.Try timed, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable context = requireNonNull(timedResource(timed));
+                Expression timer = ((J.MethodInvocation) requireNonNull(context.getInitializer())).getSelect();
+                String sample = context.getSimpleName();
+                b = startSample(updateCursor(b), timed.getCoordinates().before(), sample, timer, ctx);
+
+                J.Try withFinally = template("try {\n} finally {\n    " + sample + ".stop(#{any()});\n}", ctx)
+                        .apply(new Cursor(updateCursor(b), timed), timed.getCoordinates().replace(), micrometerTimer(timer));
+                J.Try stopped = withFinally.withBody(timed.getBody()).withCatches(timed.getCatches());
+                return b.withStatements(ListUtils.map(b.getStatements(), s -> s.getId().equals(timed.getId()) ? stopped : s));
+            }
+
+            private <J2 extends J> J2 startSample(Cursor cursor, JavaCoordinates coordinates, String sample,
+                                                 @Nullable Expression timer, ExecutionContext ctx) {
+                maybeAddImport(Micrometer.TIMER);
+                maybeRemoveImport("com.codahale.metrics.Timer");
+                if (timer instanceof J.MethodInvocation) {
+                    return template("Timer.Sample " + sample + " = Timer.start(#{any()});", ctx)
+                            .apply(cursor, coordinates, requireNonNull(((J.MethodInvocation) timer).getSelect()));
+                }
+                return template("Timer.Sample " + sample + " = Timer.start();", ctx).apply(cursor, coordinates);
+            }
+
+            /**
+             * The Micrometer timer to stop a sample with, for a timer looked up from the registry or held in a variable.
+             */
+            private Expression micrometerTimer(@Nullable Expression timer) {
+                return timer instanceof J.MethodInvocation ?
+                        micrometerLookup((J.MethodInvocation) timer, Kind.TIMER) :
+                        retype(requireNonNull(timer), Kind.TIMER);
+            }
+
+            /**
+             * The field a meter was hoisted to, or else the lookup of the equivalent Micrometer meter.
+             */
+            private Expression micrometerLookup(J.MethodInvocation lookup, Kind kind) {
+                Meter meter = getCursor().<Map<UUID, Meter>>getNearestMessage(METERS, emptyMap()).get(lookup.getId());
+                if (meter != null) {
+                    getCursor().<Set<Meter>>getNearestMessage(USED_METERS, new HashSet<>()).add(meter);
+                    return new J.Identifier(randomId(), lookup.getPrefix(), Markers.EMPTY, emptyList(), meter.getField(),
+                            JavaType.ShallowClass.build(kind.type), null);
+                }
+                JavaType.Method type = lookup.getMethodType() == null ? null : lookup.getMethodType()
+                        .withName(kind.method)
+                        .withDeclaringType(JavaType.ShallowClass.build(Micrometer.METER_REGISTRY))
+                        .withReturnType(JavaType.ShallowClass.build(kind.type));
+                return lookup.withId(randomId())
+                        .withName(lookup.getName().withSimpleName(kind.method).withType(type))
+                        .withMethodType(type);
+            }
+
+            private J.MethodInvocation joinName(J.MethodInvocation mi, ExecutionContext ctx) {
+                if (!joinable(mi)) {
+                    return mi;
+                }
+                StringJoiner code = new StringJoiner(", ", "String.join(\".\", ", ")");
+                for (Expression argument : mi.getArguments()) {
+                    code.add(TypeUtils.isOfClassType(argument.getType(), "java.lang.Class") ?
+                            "#{any(java.lang.Class)}.getName()" : "#{any(java.lang.String)}");
+                }
+                return template(code.toString(), ctx)
+                        .apply(updateCursor(mi), mi.getCoordinates().replace(), mi.getArguments().toArray());
+            }
+
+            private J.ClassDeclaration addMeterFields(J.ClassDeclaration cd, J.VariableDeclarations registry,
+                                                      List<Meter> meters, ExecutionContext ctx) {
+                String registryName = meters.get(0).getRegistryName();
+                boolean initialized = registry.getVariables().stream()
+                        .anyMatch(v -> v.getSimpleName().equals(registryName) && v.getInitializer() != null);
+                String modifiers = registry.hasModifier(J.Modifier.Type.Static) ? "private static final " : "private final ";
+                String fields = meters.stream()
+                        .map(meter -> modifiers + meter.getKind().simpleTypeName() + " " +
+                                      meter.getField() + (initialized ? " = " + lookupCode(meter) : "") + ";")
+                        .collect(joining("\n"));
+                J.VariableDeclarations registryDecl = cd.getBody().getStatements().stream()
+                        .filter(s -> s.getId().equals(registry.getId()))
+                        .map(J.VariableDeclarations.class::cast)
+                        .findFirst()
+                        .orElse(null);
+                if (registryDecl == null) {
+                    return cd;
+                }
+                cd = template(fields, ctx).apply(updateCursor(cd), registryDecl.getCoordinates().after());
+                if (initialized) {
+                    return cd;
+                }
+
+                String assignments = meters.stream()
+                        .map(meter -> "this." + meter.getField() + " = " + lookupCode(meter) + ";")
+                        .collect(joining("\n"));
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).isConstructor()) {
+                        J.MethodDeclaration constructor = (J.MethodDeclaration) statement;
+                        int index = assignmentIndex(constructor, registryName);
+                        if (index >= 0 && constructor.getBody() != null) {
+                            cd = template(assignments, ctx).apply(updateCursor(cd),
+                                    constructor.getBody().getStatements().get(index).getCoordinates().after());
+                        }
+                    }
+                }
+                return cd;
+            }
+
+            private String lookupCode(Meter meter) {
+                return meter.getRegistryName() + "." + meter.getKind().method + "(" +
+                       meter.getName().printTrimmed(getCursor()) + ")";
+            }
+        });
+    }
+
+    /**
+     * The kind of meter looked up from a registry or held in a variable, or {@code null} for any other expression.
+     */
+    private static @Nullable Kind kind(@Nullable Expression meter) {
+        if (isVariable(meter)) {
+            return CODAHALE_METERS.get(fullyQualifiedName(meter.getType()));
+        } else if (!(meter instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) meter;
+        if (METER.matches(mi) || COUNTER.matches(mi)) {
+            return Kind.COUNTER;
+        } else if (HISTOGRAM.matches(mi)) {
+            return Kind.SUMMARY;
+        } else if (TIMER.matches(mi)) {
+            return Kind.TIMER;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the meter lookups in the methods of a class that can be done once: those with a constant name,
+     * on a registry field that is initialized where it is declared or in every constructor.
+     */
+    private static Map<UUID, Meter> hoistableMeters(J.ClassDeclaration classDecl) {
+        Map<String, J.VariableDeclarations> registries = new HashMap<>();
+        Set<String> fieldNames = new HashSet<>();
+        List<J.MethodDeclaration> constructors = new ArrayList<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                    fieldNames.add(variable.getSimpleName());
+                    if (TypeUtils.isOfClassType(field.getType(), METRIC_REGISTRY)) {
+                        registries.put(variable.getSimpleName(), field);
+                    }
+                }
+            } else if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).isConstructor()) {
+                constructors.add((J.MethodDeclaration) statement);
+            }
+        }
+        registries.entrySet().removeIf(registry -> !registry.getValue().getVariables().stream()
+                .filter(v -> v.getSimpleName().equals(registry.getKey()))
+                .allMatch(v -> initializedOnce(registry.getValue(), v, constructors)));
+        if (registries.isEmpty()) {
+            return emptyMap();
+        }
+
+        Map<UUID, Meter> meters = new HashMap<>();
+        Map<String, Meter> byKey = new HashMap<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration nested, Integer p) {
+                return nested;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+                return method.isConstructor() ? method : super.visitMethodDeclaration(method, p);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                Kind kind = kind(method);
+                J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                String registryName = registryName(method.getSelect());
+                J.VariableDeclarations registry = registryName == null ? null : registries.get(registryName);
+                String name = kind == null ? null : constantName(method.getArguments().get(0));
+                if (enclosing != null && registry != null && name != null &&
+                    (registry.hasModifier(J.Modifier.Type.Static) || !enclosing.hasModifier(J.Modifier.Type.Static))) {
+                    meters.put(method.getId(), byKey.computeIfAbsent(registryName + "|" + kind + "|" + name, k ->
+                            new Meter(kind, registry, registryName, method.getArguments().get(0),
+                                    uniqueName(fieldName(name, kind), fieldNames))));
+                }
+                return super.visitMethodInvocation(method, p);
+            }
+        }.visit(classDecl.getBody(), 0);
+        return meters;
+    }
+
+    private static boolean initializedOnce(J.VariableDeclarations field, J.VariableDeclarations.NamedVariable variable,
+                                           List<J.MethodDeclaration> constructors) {
+        if (variable.getInitializer() != null) {
+            return true;
+        } else if (field.hasModifier(J.Modifier.Type.Static) || constructors.isEmpty()) {
+            return false;
+        }
+        for (J.MethodDeclaration constructor : constructors) {
+            if (!delegates(constructor) && assignmentIndex(constructor, variable.getSimpleName()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean delegates(J.MethodDeclaration constructor) {
+        return constructor.getBody() != null && !constructor.getBody().getStatements().isEmpty() &&
+               constructor.getBody().getStatements().get(0) instanceof J.MethodInvocation &&
+               "this".equals(((J.MethodInvocation) constructor.getBody().getStatements().get(0)).getSimpleName());
+    }
+
+    private static int assignmentIndex(J.MethodDeclaration constructor, String field) {
+        if (constructor.getBody() == null) {
+            return -1;
+        }
+        List<Statement> statements = constructor.getBody().getStatements();
+        for (int i = 0; i < statements.size(); i++) {
+            if (statements.get(i) instanceof J.Assignment &&
+                field.equals(registryName(((J.Assignment) statements.get(i)).getVariable()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The name of the field a registry is read from, as in {@code metrics} or {@code this.metrics}.
+     */
+    private static @Nullable String registryName(@Nullable Expression select) {
+        if (select instanceof J.Identifier) {
+            JavaType.Variable fieldType = ((J.Identifier) select).getFieldType();
+            return fieldType != null && fieldType.getOwner() instanceof JavaType.FullyQualified ?
+                    ((J.Identifier) select).getSimpleName() : null;
+        } else if (select instanceof J.FieldAccess && ((J.FieldAccess) select).getTarget() instanceof J.Identifier &&
+                   "this".equals(((J.Identifier) ((J.FieldAccess) select).getTarget()).getSimpleName())) {
+            return ((J.FieldAccess) select).getSimpleName();
+        }
+        return null;
+    }
+
+    /**
+     * The words of a constant meter name, or {@code null} when the name is computed.
+     */
+    private static @Nullable String constantName(Expression name) {
+        if (name instanceof J.Literal && ((J.Literal) name).getValue() instanceof String) {
+            return (String) ((J.Literal) name).getValue();
+        }
+        JavaType.Variable constant = name instanceof J.Identifier ? ((J.Identifier) name).getFieldType() :
+                name instanceof J.FieldAccess ? ((J.FieldAccess) name).getName().getFieldType() : null;
+        if (constant != null && constant.hasFlags(Flag.Static, Flag.Final)) {
+            return constant.getName();
+        }
+        return null;
+    }
+
+    private static String fieldName(String name, Kind kind) {
+        StringBuilder field = new StringBuilder();
+        for (String word : name.split("[^A-Za-z0-9]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.equals(word.toUpperCase(Locale.ROOT))) {
+                word = word.toLowerCase(Locale.ROOT);
+            }
+            field.append(field.length() == 0 ?
+                    Character.toLowerCase(word.charAt(0)) + word.substring(1) :
+                    Character.toUpperCase(word.charAt(0)) + word.substring(1));
+        }
+        if (field.length() == 0 || Character.isDigit(field.charAt(0))) {
+            field.insert(0, kind.method);
+        }
+        return field.append(kind.suffix).toString();
+    }
+
+    private static String uniqueName(String name, Set<String> taken) {
+        String unique = name;
+        for (int i = 2; !taken.add(unique); i++) {
+            unique = name + i;
+        }
+        return unique;
+    }
+
+    /**
+     * A {@code Timer.Context context = timer.time();} declared in a block that only ever stops it.
+     */
+    private static boolean isSample(J.VariableDeclarations vd, Object parent) {
+        if (vd.getVariables().size() != 1 || !TypeUtils.isOfClassType(vd.getType(), TIMER_CONTEXT) ||
+            !(parent instanceof J.Block)) {
+            return false;
+        }
+        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+        return isTimed(variable.getInitializer()) && !used((J.Block) parent, variable.getSimpleName(), true);
+    }
+
+    /**
+     * The timer context of a {@code try (Timer.Context context = timer.time())} that has no other resource,
+     * no {@code finally} and does not use the context.
+     */
+    private static J.VariableDeclarations.@Nullable NamedVariable timedResource(J.Try timed) {
+        if (timed.getResources() == null || timed.getResources().size() != 1 || timed.getFinally() != null ||
+            !(timed.getResources().get(0).getVariableDeclarations() instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        J.VariableDeclarations vd = (J.VariableDeclarations) timed.getResources().get(0).getVariableDeclarations();
+        if (vd.getVariables().size() != 1 || !TypeUtils.isOfClassType(vd.getType(), TIMER_CONTEXT)) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable context = vd.getVariables().get(0);
+        if (!isTimed(context.getInitializer()) || used(timed.getBody(), context.getSimpleName(), false)) {
+            return null;
+        }
+        for (J.Try.Catch c : timed.getCatches()) {
+            if (used(c, context.getSimpleName(), false)) {
+                return null;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * {@code registry.timer(name).time()} or {@code timer.time()} on a variable holding a timer.
+     */
+    private static boolean isTimed(@Nullable Expression initializer) {
+        if (!(initializer instanceof J.MethodInvocation) || !TIME.matches((J.MethodInvocation) initializer)) {
+            return false;
+        }
+        Expression timer = ((J.MethodInvocation) initializer).getSelect();
+        return kind(timer) == Kind.TIMER &&
+               (!(timer instanceof J.MethodInvocation) || ((J.MethodInvocation) timer).getSelect() != null);
+    }
+
+    private static boolean used(J scope, String variable, boolean exceptStop) {
+        AtomicBoolean otherUse = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (exceptStop && STOP.matches(method) && method.getSelect() instanceof J.Identifier &&
+                    variable.equals(((J.Identifier) method.getSelect()).getSimpleName())) {
+                    return method;
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (variable.equals(identifier.getSimpleName()) &&
+                    !(getCursor().getParentTreeCursor().getValue() instanceof J.VariableDeclarations.NamedVariable)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.visit(scope, otherUse);
+        return otherUse.get();
+    }
+
+    /**
+     * A local variable or field read by its name, as in {@code meter} or {@code this.meter}.
+     */
+    private static boolean isVariable(@Nullable Expression expression) {
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getFieldType() != null ||
+               expression instanceof J.FieldAccess && registryName(expression) != null;
+    }
+
+    /**
+     * A variable holding a Codahale meter, typed as the Micrometer meter it is changed to.
+     */
+    private static Expression retype(Expression variable, Kind kind) {
+        JavaType type = JavaType.ShallowClass.build(kind.type);
+        if (variable instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) variable;
+            return fieldAccess.withName((J.Identifier) retype(fieldAccess.getName(), kind)).withType(type);
+        }
+        J.Identifier identifier = (J.Identifier) variable;
+        return identifier.withType(type)
+                .withFieldType(identifier.getFieldType() == null ? null : identifier.getFieldType().withType(type));
+    }
+
+    private static @Nullable String fullyQualifiedName(@Nullable JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq == null ? null : fq.getFullyQualifiedName();
+    }
+
+    private static boolean joinable(J.MethodInvocation name) {
+        for (Expression argument : name.getArguments()) {
+            if (argument instanceof J.Empty || argument.getType() instanceof JavaType.Array) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks the uses of the registry and of Codahale meters that have no Micrometer equivalent here. A file with
+     * any of them is not migrated, as changing the type of its registry would leave those uses uncompilable.
+     */
+    private static class MarkUnsupportedUsages extends JavaIsoVisitor<ExecutionContext> {
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (CODAHALE_METERS.containsKey(fullyQualifiedName(vd.getType()))) {
+                boolean lookedUp = parent instanceof J.Block && vd.getVariables().stream()
+                        .allMatch(v -> v.getInitializer() == null || isLookup(v.getInitializer()));
+                if (!lookedUp) {
+                    return SearchResult.found(vd, "Codahale meter that is not looked up from a MetricRegistry");
+                }
+            } else if (TypeUtils.isOfClassType(vd.getType(), TIMER_CONTEXT)) {
+                J.Try timed = getCursor().firstEnclosing(J.Try.class);
+                boolean sample = isSample(vd, parent) || parent instanceof J.Try.Resource && timed != null &&
+                                                         timedResource(timed) != null;
+                if (!sample) {
+                    return SearchResult.found(vd, "Timer context that is not only stopped where it is started");
+                }
+            }
+            return vd;
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+            J.Assignment a = super.visitAssignment(assignment, ctx);
+            if (CODAHALE_METERS.containsKey(fullyQualifiedName(a.getVariable().getType())) && !isLookup(a.getAssignment())) {
+                return SearchResult.found(a, "Codahale meter that is not looked up from a MetricRegistry");
+            }
+            return a;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            J.NewClass nc = super.visitNewClass(newClass, ctx);
+            if (CODAHALE_METERS.containsKey(fullyQualifiedName(nc.getType()))) {
+                return SearchResult.found(nc, "Codahale meter that is not looked up from a MetricRegistry");
+            }
+            return nc;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+            J.Identifier i = super.visitIdentifier(identifier, ctx);
+            if (i.getFieldType() != null && CODAHALE_METERS.containsKey(fullyQualifiedName(i.getType())) &&
+                !convertibleReference(getCursor())) {
+                return SearchResult.found(i, "Codahale meter that is passed on");
+            }
+            return i;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            String owner = mi.getMethodType() == null ? null : fullyQualifiedName(mi.getMethodType().getDeclaringType());
+            if (owner == null) {
+                return mi;
+            }
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (METRIC_REGISTRY.equals(owner)) {
+                if (NAME.matches(mi) ? !joinable(mi) : kind(mi) == null) {
+                    return SearchResult.found(mi, "No Micrometer equivalent for MetricRegistry." + mi.getSimpleName());
+                } else if (kind(mi) != null && !(parent instanceof J.VariableDeclarations.NamedVariable ||
+                                                 parent instanceof J.Assignment ||
+                                                 parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == method)) {
+                    return SearchResult.found(mi, "Codahale meter that is passed on");
+                }
+            } else if (DEC.matches(mi)) {
+                return SearchResult.found(mi, "Micrometer counters only increase, use a gauge instead");
+            } else if (CODAHALE_METERS.containsKey(owner)) {
+                boolean converted = TIME.matches(mi) ? parent instanceof J.VariableDeclarations.NamedVariable :
+                        OPERATIONS.stream().anyMatch(operation -> operation.getMatcher().matches(mi));
+                if (!converted || kind(mi.getSelect()) == null) {
+                    return SearchResult.found(mi, "No Micrometer equivalent for " +
+                                                  owner.substring(owner.lastIndexOf('.') + 1) + "." + mi.getSimpleName());
+                }
+            } else if (TIMER_CONTEXT.equals(owner) && (!STOP.matches(mi) || !isVariable(mi.getSelect()))) {
+                return SearchResult.found(mi, "No Micrometer equivalent for Timer.Context." + mi.getSimpleName());
+            }
+            return mi;
+        }
+
+        private static boolean isLookup(@Nullable Expression expression) {
+            return expression instanceof J.MethodInvocation && kind(expression) != null;
+        }
+
+        /**
+         * A reference to a variable holding a Codahale meter that is declared, assigned a lookup or has a meter
+         * operation called on it, all of which are converted.
+         */
+        private static boolean convertibleReference(Cursor cursor) {
+            Object reference = cursor.getValue();
+            Cursor parentCursor = cursor.getParentTreeCursor();
+            Object parent = parentCursor.getValue();
+            if (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == reference) {
+                return convertibleReference(parentCursor);
+            }
+            return parent instanceof J.VariableDeclarations.NamedVariable ||
+                   parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == reference ||
+                   parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == reference;
+        }
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, MigrateMetricRegistryToMeterRegistry.class, code, () -> JavaTemplate.builder(code)
+                .contextSensitive()
+                .imports(Micrometer.COUNTER, Micrometer.DISTRIBUTION_SUMMARY, Micrometer.TIMER, Micrometer.SIMPLE_METER_REGISTRY)
+                .javaParser(Micrometer.parser())
+                .build());
+    }
+}
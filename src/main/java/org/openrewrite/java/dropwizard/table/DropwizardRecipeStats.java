@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Where the recipes of this module spend their time, per source file. It adds the per source file detail to
+ * {@link org.openrewrite.table.RecipeRunStats}, which has the totals per recipe, and leaves which files changed to
+ * {@link org.openrewrite.table.SourcesFileResults}. As it has a row per source file, recipe and cycle, rows are
+ * only recorded when the {@value #ENABLED_PROPERTY} system property is {@code true}.
+ */
+@JsonIgnoreType
+public class DropwizardRecipeStats extends DataTable<DropwizardRecipeStats.Row> {
+
+    public static final String ENABLED_PROPERTY = "rewrite.dropwizard.stats";
+
+    private static final String INVOCATIONS = DropwizardRecipeStats.class.getName() + ".invocations";
+
+    private final Recipe recipe;
+
+    public DropwizardRecipeStats(Recipe recipe) {
+        super(recipe,
+                "Dropwizard recipe statistics",
+                "Time spent, visitor invocations and templates built by each Dropwizard migration recipe, per source file and cycle.");
+        this.recipe = recipe;
+    }
+
+    /**
+     * Wraps the visitor of a recipe so that each source file it visits adds a row to this table, or returns it
+     * as is when recording is not enabled.
+     */
+    public TreeVisitor<?, ExecutionContext> record(TreeVisitor<?, ExecutionContext> visitor) {
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return visitor;
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx, getCursor());
+                }
+                String sourcePath = ((SourceFile) tree).getSourcePath().toString();
+                Map<String, AtomicInteger> invocations = ctx.computeMessageIfAbsent(INVOCATIONS, k -> new ConcurrentHashMap<>());
+                AtomicInteger invocation = invocations.computeIfAbsent(recipe.getName() + '\0' + sourcePath, k -> new AtomicInteger());
+                int templatesBefore = TemplateCache.built(ctx);
+                long start = System.nanoTime();
+                Tree result = visitor.visit(tree, ctx, getCursor());
+                insertRow(ctx, new Row(sourcePath, recipe.getName(), ctx.getCycle(), System.nanoTime() - start,
+                        invocation.incrementAndGet(), TemplateCache.built(ctx) - templatesBefore));
+                return result;
+            }
+        };
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the visited source file.")
+        String sourcePath;
+
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe that visited the source file.")
+        String recipe;
+
+        @Column(displayName = "Cycle",
+                description = "The recipe run cycle in which the source file was visited.")
+        int cycle;
+
+        @Column(displayName = "Elapsed time (ns)",
+                description = "Wall time spent by the recipe on the source file, including visitors it scheduled to run after its own.")
+        long elapsedNanos;
+
+        @Column(displayName = "Visitor invocations",
+                description = "How many times the visitor of the recipe has visited the source file so far in the run, " +
+                              "counting every cycle and every use of the recipe with other options.")
+        int visitorInvocations;
+
+        @Column(displayName = "Templates built",
+                description = "The number of Java templates the recipe built while visiting the source file.")
+        int templatesBuilt;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class UnmappedDropwizardConfiguration extends DataTable<UnmappedDropwizardConfiguration.Row> {
+
+    public UnmappedDropwizardConfiguration(Recipe recipe) {
+        super(recipe,
+                "Unmapped Dropwizard configuration",
+                "Dropwizard configuration values that were not carried over, and need to be reviewed by hand.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the Dropwizard configuration file.")
+        String sourcePath;
+
+        @Column(displayName = "Key",
+                description = "The key of the value, with sequence entries indexed, e.g. `server.applicationConnectors[1].port`.")
+        String key;
+
+        @Column(displayName = "Value",
+                description = "The configured value.")
+        String value;
+
+        @Column(displayName = "Reason",
+                description = "Why the value was not carried over.")
+        String reason;
+    }
+}
@@ -17,63 +17,204 @@ package org.openrewrite.java.dropwizard.test;
 
 import lombok.Builder;
 import lombok.Data;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.Markers;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static java.util.Collections.reverse;
+
+/**
+ * Builds a {@link ParsedCall} from a Dropwizard client invocation chain such as
+ * {@code RULE.client().target("/people").request().post(Entity.entity(person, MediaType.APPLICATION_JSON_TYPE))},
+ * walking the chain once from the outermost call down to its root.
+ */
 public class DropwizardCallParser {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String AUTHORIZATION_CONSTANT = "AUTHORIZATION";
+    private static final String[] HTTP_METHODS = {"POST", "PUT", "DELETE", "PATCH"};
+
     public static ParsedCall parse(J.MethodInvocation method, Cursor cursor) {
-        String methodSource = method.print(cursor);
-        return parseMethodInvocation(method, methodSource, cursor);
+        return parse(method, cursor, null);
     }
 
-    static ParsedCall parseMethodInvocation(
-            J.MethodInvocation method, String methodSource, Cursor cursor) {
+    /**
+     * @param parameters when given, the arguments of the call that end up in the snippet are collected there and
+     *                   stand in the parsed call as placeholders, so the snippet only depends on the shape of the call
+     */
+    public static ParsedCall parse(J.MethodInvocation method, Cursor cursor, @Nullable TemplateParameters parameters) {
+        @Nullable PathInfo pathInfo = null;
+        int httpMethodIndex = HTTP_METHODS.length;
+        List<ParamInfo> queryParams = new ArrayList<>();
+        List<ParamInfo> pathParams = new ArrayList<>();
+        Expression requestBody = null;
+        Expression entityMediaType = null;
+        Expression contentType = null;
+        Expression requestMediaType = null;
+        Expression accept = null;
+        Expression authHeader = null;
+
+        // Walking from the outermost call inwards, so a later assignment is the one earlier in the source
+        for (J.MethodInvocation call = method; call != null; call = selectedCall(call)) {
+            List<Expression> args = arguments(call);
+            switch (call.getSimpleName()) {
+                case "target":
+                    if (pathInfo == null) {
+                        pathInfo = extractPathInfo(call, cursor, parameters);
+                    }
+                    break;
+                case "queryParam":
+                    addParam(args, queryParams, cursor);
+                    break;
+                case "pathParam":
+                    addParam(args, pathParams, cursor);
+                    break;
+                case "request":
+                    if (!args.isEmpty()) {
+                        requestMediaType = args.get(0);
+                    }
+                    break;
+                case "accept":
+                    if (!args.isEmpty()) {
+                        accept = args.get(0);
+                    }
+                    break;
+                case "contentType":
+                    if (!args.isEmpty()) {
+                        contentType = args.get(0);
+                    }
+                    break;
+                case "header":
+                    if (args.size() == 2 && isAuthorizationHeader(args.get(0))) {
+                        authHeader = args.get(1);
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            httpMethodIndex = Math.min(httpMethodIndex, httpMethodIndex(call.getSimpleName()));
+
+            for (Expression arg : args) {
+                if (isEntityCall(arg)) {
+                    List<Expression> entityArgs = arguments((J.MethodInvocation) arg);
+                    requestBody = entityArgs.get(0);
+                    entityMediaType = entityArgs.get(1);
+                }
+            }
+        }
+
+        // Parameters were collected from the end of the chain, restore their source order
+        reverse(queryParams);
+        reverse(pathParams);
 
         return ParsedCall.builder()
-                .pathInfo(extractPathInfo(method))
-                .httpMethod(extractHttpMethod(method))
-                .requestBody(extractRequestBody(methodSource))
-                .queryParams(extractQueryParams(methodSource))
-                .pathParams(extractPathParams(methodSource))
-                .mediaTypes(extractMediaTypes(methodSource))
-                .authHeader(extractAuthHeader(methodSource))
+                .pathInfo(pathInfo != null ? pathInfo : defaultPathInfo(parameters))
+                .httpMethod(httpMethodIndex < HTTP_METHODS.length ? HTTP_METHODS[httpMethodIndex] : "GET")
+                .requestBody(argument(requestBody, "java.lang.Object", cursor, parameters))
+                .queryParams(queryParams)
+                .pathParams(pathParams)
+                .mediaTypes(MediaTypeInfo.builder()
+                        .accept(normalizeMediaType(requestMediaType != null ? requestMediaType : accept, cursor, parameters))
+                        .content(normalizeMediaType(entityMediaType != null ? entityMediaType : contentType, cursor, parameters))
+                        .build())
+                .authHeader(argument(authHeader, "java.lang.String", cursor, parameters))
                 .build();
     }
 
-    static PathInfo extractPathInfo(J.MethodInvocation method) {
-        return findMethodInChain(method, "target")
-                .map(
-                        targetMethod -> {
-                            String fullPath = extractPathFromTarget(targetMethod);
-                            String normalizedPath = normalizePath(fullPath);
-                            boolean hasTemplates = normalizedPath.contains("{") && normalizedPath.contains("}");
-
-                            return PathInfo.builder()
-                                    .path(normalizedPath)
-                                    .fullPath(fullPath)
-                                    .hasTemplateVariables(hasTemplates)
-                                    .build();
-                        })
-                .orElse(defaultPathInfo());
+    static PathInfo extractPathInfo(J.MethodInvocation targetMethod, Cursor cursor, @Nullable TemplateParameters parameters) {
+        String fullPath = extractPathFromTarget(targetMethod);
+        String normalizedPath = normalizePath(fullPath);
+        boolean hasTemplates = normalizedPath.contains("{") && normalizedPath.contains("}");
+        List<Expression> args = arguments(targetMethod);
+        String expression = args.isEmpty() ? null : pathExpression(args.get(0), cursor, parameters);
+
+        return PathInfo.builder()
+                .path(normalizedPath)
+                .fullPath(fullPath)
+                .expression(expression != null ? expression : literal(normalizedPath, parameters))
+                .hasTemplateVariables(hasTemplates)
+                .build();
+    }
+
+    /**
+     * The path of a concatenated URL such as {@code "http://localhost:" + port + "/people/" + id} as Java source,
+     * {@code "/people/" + id}, keeping the operands that are not literals once the path has started. The
+     * operands before it, like the port, are dropped along with the host. Returns {@code null} when the path
+     * only consists of literals, which {@link #normalizePath(String)} handles.
+     */
+    static @Nullable String pathExpression(Expression pathArg, Cursor cursor, @Nullable TemplateParameters parameters) {
+        List<Expression> operands = new ArrayList<>();
+        addOperands(pathArg, operands);
+
+        List<String> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean inPath = false;
+        boolean inHost = false;
+        boolean expressions = false;
+        for (Expression operand : operands) {
+            if (operand instanceof J.Literal && ((J.Literal) operand).getValue() instanceof String) {
+                String value = (String) ((J.Literal) operand).getValue();
+                if (!inPath) {
+                    int scheme = value.indexOf("://");
+                    if (scheme >= 0) {
+                        inHost = true;
+                        value = value.substring(scheme + 3);
+                    }
+                    if (inHost) {
+                        int pathStart = value.indexOf('/');
+                        if (pathStart < 0) {
+                            continue;
+                        }
+                        value = value.substring(pathStart);
+                    }
+                    inPath = true;
+                }
+                literal.append(value);
+            } else if (inPath) {
+                if (literal.length() > 0) {
+                    parts.add(literal(literal.toString(), parameters));
+                    literal.setLength(0);
+                }
+                parts.add(argument(operand, "java.lang.Object", cursor, parameters));
+                expressions = true;
+            } else {
+                // A base URL or port in front of the path
+                inHost = true;
+            }
+        }
+        if (!expressions) {
+            return null;
+        }
+        if (literal.length() > 0) {
+            parts.add(literal(literal.toString(), parameters));
+        }
+        return String.join(" + ", parts);
     }
 
     static String extractPathFromTarget(J.MethodInvocation targetMethod) {
-        if (targetMethod.getArguments().isEmpty()) {
+        List<Expression> args = arguments(targetMethod);
+        if (args.isEmpty()) {
             return "/";
         }
 
-        Expression pathArg = targetMethod.getArguments().get(0);
-        if (pathArg instanceof J.Literal) {
-            return ((J.Literal) pathArg).getValue().toString();
-        } else if (pathArg instanceof J.Binary) {
-            return pathArg.toString();
+        Expression pathArg = args.get(0);
+        if (pathArg instanceof J.Literal || pathArg instanceof J.Binary) {
+            // Only the literal parts of a concatenation such as "http://localhost:" + port + "/people" make up the path
+            StringBuilder path = new StringBuilder();
+            appendLiterals(pathArg, path);
+            return path.toString();
         }
 
         return "/";
@@ -81,156 +222,194 @@ public class DropwizardCallParser {
 
     static String normalizePath(String path) {
         // Extract path after port if present
-        int portIndex = path.lastIndexOf(":");
+        int portIndex = path.lastIndexOf(':');
         if (portIndex != -1) {
-            int pathStart = path.indexOf("/", portIndex);
+            int pathStart = path.indexOf('/', portIndex);
             if (pathStart != -1) {
                 path = path.substring(pathStart);
             }
         }
 
-        return path.replaceAll("^\"|\"$", "") // Remove quotes
-                .replaceAll("/{2,}", "/") // Normalize multiple slashes
-                .replaceAll("/+$", "") // Remove trailing slash
-                .replaceFirst("^(?!/)", "/"); // Ensure leading slash
-    }
-
-    static List<ParamInfo> extractQueryParams(String methodSource) {
-        List<ParamInfo> params = new ArrayList<>();
-        Matcher matcher = Patterns.QUERY_PARAM.matcher(methodSource);
-
-        while (matcher.find()) {
-            String name = matcher.group(1);
-            String value = matcher.group(2);
-
-            params.add(ParamInfo.builder().name(name).value(value).build());
+        // Ensure a leading slash and collapse repeated slashes
+        StringBuilder normalized = new StringBuilder("/");
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != '/' || normalized.charAt(normalized.length() - 1) != '/') {
+                normalized.append(c);
+            }
         }
 
-        return params;
+        // Remove trailing slash
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.toString();
     }
 
-    static List<ParamInfo> extractPathParams(String methodSource) {
-        List<ParamInfo> params = new ArrayList<>();
-        Matcher matcher = Patterns.PATH_PARAM.matcher(methodSource);
-
-        while (matcher.find()) {
-            String name = matcher.group(1);
-            String value = matcher.group(2);
-
-            params.add(ParamInfo.builder().name(name).value(value).build());
+    static String normalizeMediaType(@Nullable Expression mediaType, Cursor cursor, @Nullable TemplateParameters parameters) {
+        if (mediaType == null || isJsonMediaType(sourceOf(mediaType, cursor))) {
+            return "org.springframework.http.MediaType.APPLICATION_JSON";
         }
 
-        return params;
+        return String.format("org.springframework.http.MediaType.parseMediaType(%s)",
+                argument(mediaType, "java.lang.String", cursor, parameters));
     }
 
-    static MediaTypeInfo extractMediaTypes(String methodSource) {
-        String accept =
-                findFirstMatch(Patterns.REQUEST, methodSource)
-                        .orElse(findFirstMatch(Patterns.ACCEPT, methodSource).orElse(""));
-
-        String content =
-                findFirstMatch(Patterns.ENTITY, methodSource, 2)
-                        .map(m -> m.group(2).trim())
-                        .orElseGet(() -> findFirstMatch(Patterns.CONTENT_TYPE, methodSource).orElse(""));
-
-        return MediaTypeInfo.builder()
-                .accept(normalizeMediaType(accept))
-                .content(normalizeMediaType(content))
-                .build();
+    static boolean isJsonMediaType(String mediaType) {
+        return mediaType.toLowerCase().contains("json");
     }
 
-    static String normalizeMediaType(String mediaType) {
-        if (mediaType.isEmpty() || isJsonMediaType(mediaType)) {
-            return "org.springframework.http.MediaType.APPLICATION_JSON";
+    /**
+     * The source text of an argument. Literals, identifiers and constant references are rebuilt from
+     * their LST nodes, anything more complex is printed on its own rather than with the whole chain.
+     */
+    static String sourceOf(Expression expression, Cursor cursor) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValueSource() != null) {
+            return ((J.Literal) expression).getValueSource();
+        } else if (expression instanceof J.Identifier) {
+            return ((J.Identifier) expression).getSimpleName();
+        } else if (expression instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+            return sourceOf(fieldAccess.getTarget(), cursor) + "." + fieldAccess.getSimpleName();
         }
+        return expression.printTrimmed(cursor);
+    }
 
-        return String.format("org.springframework.http.MediaType.parseMediaType(%s)", mediaType);
+    /**
+     * An argument of the call as it appears in the snippet: its source text, or a placeholder for it.
+     */
+    private static String argument(@Nullable Expression expression, String type, Cursor cursor,
+                                   @Nullable TemplateParameters parameters) {
+        if (expression == null) {
+            return "";
+        }
+        return parameters == null ? sourceOf(expression, cursor) : parameters.add(expression, "any(" + type + ")");
     }
 
-    static boolean isJsonMediaType(String mediaType) {
-        return mediaType.toLowerCase().contains("json");
+    private static String literal(String value, @Nullable TemplateParameters parameters) {
+        if (parameters == null) {
+            return quote(value);
+        }
+        return parameters.add(new J.Literal(Tree.randomId(), Space.EMPTY, Markers.EMPTY, value, quote(value), null,
+                JavaType.Primitive.String), "any(java.lang.String)");
     }
 
-    static String extractHttpMethod(J.MethodInvocation method) {
-        String methodStr = method.print().toLowerCase();
-        if (methodStr.contains(".post(")) return "POST";
-        if (methodStr.contains(".put(")) return "PUT";
-        if (methodStr.contains(".delete(")) return "DELETE";
-        if (methodStr.contains(".patch(")) return "PATCH";
-        return "GET";
+    private static void addParam(List<Expression> args, List<ParamInfo> params, Cursor cursor) {
+        if (args.size() == 2 && args.get(0) instanceof J.Literal &&
+                ((J.Literal) args.get(0)).getValue() instanceof String) {
+            params.add(ParamInfo.builder()
+                    .name((String) ((J.Literal) args.get(0)).getValue())
+                    .value(sourceOf(args.get(1), cursor))
+                    .build());
+        }
     }
 
-    static String extractRequestBody(String methodSource) {
-        return findFirstMatch(Patterns.ENTITY, methodSource, 2).map(m -> m.group(1).trim()).orElse("");
+    private static void addOperands(Expression expression, List<Expression> operands) {
+        if (expression instanceof J.Binary && ((J.Binary) expression).getOperator() == J.Binary.Type.Addition) {
+            addOperands(((J.Binary) expression).getLeft(), operands);
+            addOperands(((J.Binary) expression).getRight(), operands);
+        } else {
+            operands.add(expression);
+        }
     }
 
-    static String extractAuthHeader(String methodSource) {
-        Pattern patternToTest = Patterns.AUTH_HEADER;
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
 
-        return findFirstMatch(patternToTest, methodSource).orElse("");
+    private static void appendLiterals(Expression expression, StringBuilder path) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() != null) {
+            path.append(((J.Literal) expression).getValue());
+        } else if (expression instanceof J.Binary && ((J.Binary) expression).getOperator() == J.Binary.Type.Addition) {
+            appendLiterals(((J.Binary) expression).getLeft(), path);
+            appendLiterals(((J.Binary) expression).getRight(), path);
+        }
     }
 
-    static Optional<String> findFirstMatch(Pattern pattern, String input) {
-        Matcher matcher = pattern.matcher(input);
-        if (matcher.find() && matcher.groupCount() >= 1) {
-            return Optional.of(matcher.group(1).trim());
+    private static boolean isAuthorizationHeader(Expression name) {
+        if (name instanceof J.Literal) {
+            return AUTHORIZATION_HEADER.equals(((J.Literal) name).getValue());
         }
-        return Optional.empty();
+        return name instanceof J.FieldAccess &&
+                AUTHORIZATION_CONSTANT.equals(((J.FieldAccess) name).getSimpleName());
     }
 
-    static Optional<Matcher> findFirstMatch(
-            Pattern pattern, String input, int expectedGroups) {
-        Matcher matcher = pattern.matcher(input);
-        if (matcher.find() && matcher.groupCount() >= expectedGroups) {
-            return Optional.of(matcher);
+    private static boolean isEntityCall(Expression expression) {
+        if (!(expression instanceof J.MethodInvocation)) {
+            return false;
         }
-        return Optional.empty();
+        J.MethodInvocation mi = (J.MethodInvocation) expression;
+        if (!"entity".equals(mi.getSimpleName()) || arguments(mi).size() != 2) {
+            return false;
+        }
+        Expression select = mi.getSelect();
+        return (select instanceof J.Identifier && "Entity".equals(((J.Identifier) select).getSimpleName())) ||
+                (select instanceof J.FieldAccess && "Entity".equals(((J.FieldAccess) select).getSimpleName()));
     }
 
-    static Optional<J.MethodInvocation> findMethodInChain(
-            J.MethodInvocation method, String methodName) {
-        J.MethodInvocation current = method;
-        while (current != null) {
-            if (current.getName().getSimpleName().equals(methodName)) {
-                return Optional.of(current);
+    private static int httpMethodIndex(String methodName) {
+        for (int i = 0; i < HTTP_METHODS.length; i++) {
+            if (HTTP_METHODS[i].equalsIgnoreCase(methodName)) {
+                return i;
             }
-            if (current.getSelect() instanceof J.MethodInvocation) {
-                current = (J.MethodInvocation) current.getSelect();
-            } else {
-                break;
+        }
+        return HTTP_METHODS.length;
+    }
+
+    private static List<Expression> arguments(J.MethodInvocation method) {
+        List<Expression> args = new ArrayList<>(method.getArguments().size());
+        for (Expression arg : method.getArguments()) {
+            if (!(arg instanceof J.Empty)) {
+                args.add(arg);
             }
         }
-        return Optional.empty();
+        return args;
+    }
+
+    private static J.@Nullable MethodInvocation selectedCall(J.MethodInvocation method) {
+        return method.getSelect() instanceof J.MethodInvocation ? (J.MethodInvocation) method.getSelect() : null;
     }
 
-    static PathInfo defaultPathInfo() {
-        return PathInfo.builder().path("/").fullPath("/").hasTemplateVariables(false).build();
+    static PathInfo defaultPathInfo(@Nullable TemplateParameters parameters) {
+        return PathInfo.builder().path("/").fullPath("/").expression(literal("/", parameters)).hasTemplateVariables(false).build();
     }
 
-    static final class Patterns {
-        static final Pattern ACCEPT = Pattern.compile("\\.accept\\(\\s*([^)]+?)\\s*\\)");
-        static final Pattern CONTENT_TYPE = Pattern.compile("\\.contentType\\(\\s*([^)]+?)\\s*\\)");
-
-        static final Pattern AUTH_HEADER = Pattern.compile(
-                "\\.header\\s*\\(\\s*(?:" + // Start non-capturing group for name
-                        "\"Authorization\"" +  // Option 1: Literal string "Authorization"
-                        "|" +
-                        // Option 2: Any valid Java identifier(s) followed by .AUTHORIZATION
-                        // [\\w.]+ matches one or more word characters or dots (for package/class names)
-                        "[\\w.]+\\.AUTHORIZATION" +
-                        ")\\s*,\\s*" + // End non-capturing group for name + comma
-                        "([^)]+?)" +   // Capture group 1: Value (non-greedy)
-                        "\\s*\\)",     // Whitespace and closing parenthesis
-                Pattern.DOTALL // Keep DOTALL flag for multi-line robustness
-        );
-
-        static final Pattern REQUEST = Pattern.compile("\\.request\\(\\s*([^)]+?)\\s*\\)");
-        static final Pattern ENTITY =
-                Pattern.compile("Entity\\.entity\\(\\s*([^,]+?)\\s*,\\s*([^)]+?)\\s*\\)");
-        static final Pattern QUERY_PARAM =
-                Pattern.compile("\\.queryParam\\(\\s*\"([^\"]+)\"\\s*,\\s*([^)]+?)\\s*\\)");
-        static final Pattern PATH_PARAM =
-                Pattern.compile("\\.pathParam\\(\\s*\"([^\"]+)\"\\s*,\\s*([^)]+?)\\s*\\)");
+    /**
+     * The trees a snippet passes to its template. While the snippet is built, each one stands in it as a
+     * numbered placeholder, since the parser meets them in a different order than the snippet uses them.
+     */
+    public static class TemplateParameters {
+        private static final Pattern PLACEHOLDER = Pattern.compile("#\\{p(\\d+):([^}]*)}");
+
+        private final List<Object> parameters = new ArrayList<>();
+
+        /**
+         * @param placeholder the template placeholder without its braces, such as {@code any(java.lang.String)},
+         *                    or empty for a parameter that is substituted as text
+         */
+        public String add(Object parameter, String placeholder) {
+            parameters.add(parameter);
+            return "#{p" + (parameters.size() - 1) + ":" + placeholder + "}";
+        }
+
+        /**
+         * @return the code with the placeholders of {@link JavaTemplate}
+         */
+        public String template(String code) {
+            return PLACEHOLDER.matcher(code).replaceAll("#{$2}");
+        }
+
+        /**
+         * @return the parameters in the order the code uses them
+         */
+        public Object[] of(String code) {
+            List<Object> ordered = new ArrayList<>(parameters.size());
+            Matcher matcher = PLACEHOLDER.matcher(code);
+            while (matcher.find()) {
+                ordered.add(parameters.get(Integer.parseInt(matcher.group(1))));
+            }
+            return ordered.toArray();
+        }
     }
 
     @Data
@@ -263,6 +442,10 @@ public class DropwizardCallParser {
     public static class PathInfo {
         final String path;
         final String fullPath;
+        /**
+         * The path as Java source, a string literal or a concatenation with the non-literal parts of the path.
+         */
+        final String expression;
         final boolean hasTemplateVariables;
     }
 
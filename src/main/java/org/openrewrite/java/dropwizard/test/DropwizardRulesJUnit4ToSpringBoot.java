@@ -26,6 +26,9 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 
@@ -62,6 +65,8 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
     private static final String AUTO_CONFIGURE_MOCK_MVC =
             "org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc";
 
+    private static final String FOUND_RULES = DropwizardRulesJUnit4ToSpringBoot.class.getName() + ".foundRules";
+
     /**
      * Decide which annotations to apply based on the found rules. Adjust this logic as needed.
      * We can't add MockMVC annotations as Spring Jersey does not support these.
@@ -69,7 +74,7 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
     private static Set<String> determineAnnotations(Set<String> foundRules) {
         Set<String> set = new HashSet<>();
 
-        if (foundRules.contains(DAO_TEST_RULE)) {
+        if (foundRules.contains(DAO_TEST_RULE) && !needsRunningApplication(foundRules)) {
             // Data-only tests
             set.add(DATA_JPA_TEST);
         } else {
@@ -79,13 +84,21 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
         return set;
     }
 
+    private static boolean needsRunningApplication(Set<String> foundRules) {
+        return foundRules.contains(DROPWIZARD_APP_RULE) ||
+                foundRules.contains(RESOURCE_TEST_RULE) ||
+                foundRules.contains(DROPWIZARD_CLIENT_RULE);
+    }
+
     String displayName = "Replace Dropwizard rules with Spring Boot test configuration";
 
     String description = "Remove Dropwizard JUnit4 rules and add Spring Boot test annotations and extensions.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return RecipeVisitors.of(this, stats,
                 Preconditions.and(
                         Preconditions.or(
                                 new UsesType<>(DROPWIZARD_APP_RULE, true),
@@ -100,6 +113,15 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
                                 Preconditions.not(new UsesType<>(WEB_MVC_TEST, true)))),
                 new JavaIsoVisitor<ExecutionContext>() {
 
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+
+                        // The rules removed from this class, collected while visiting its fields
+                        Set<String> foundRules = getCursor().getMessage(FOUND_RULES);
+                        return foundRules == null ? cd : addTestAnnotations(this, cd, foundRules, ctx);
+                    }
+
                     @Override
                     public J.@Nullable VariableDeclarations visitVariableDeclarations(
                             J.VariableDeclarations vd, ExecutionContext ctx) {
@@ -119,7 +141,9 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
                         maybeRemoveImport(JUNIT_RULE);
                         maybeRemoveImport(JUNIT_CLASS_RULE);
 
-                        doAfterVisit(new AddSpringBootTestAnnotationVisitor(foundRules));
+                        getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance)
+                                .computeMessageIfAbsent(FOUND_RULES, k -> new HashSet<String>())
+                                .addAll(foundRules);
 
                         return null;
                     }
@@ -152,55 +176,57 @@ public class DropwizardRulesJUnit4ToSpringBoot extends Recipe {
                 });
     }
 
+    private static J.ClassDeclaration addTestAnnotations(JavaIsoVisitor<ExecutionContext> visitor, J.ClassDeclaration cd,
+                                                         Set<String> foundRules, ExecutionContext ctx) {
+        // If we already have a Spring test annotation that sets the extension, no need to re-add
+        if (hasAnnotation(cd, SPRING_BOOT_TEST) ||
+                hasAnnotation(cd, DATA_JPA_TEST) ||
+                hasAnnotation(cd, WEB_MVC_TEST)) {
+            return cd;
+        }
+
+        visitor.maybeAddImport(SPRING_BOOT_TEST);
+        visitor.maybeAddImport(AUTO_CONFIGURE_MOCK_MVC);
+        visitor.maybeAddImport(DATA_JPA_TEST);
+        visitor.maybeAddImport(WEB_MVC_TEST);
+
+        for (String fqn : determineAnnotations(foundRules)) {
+            if (!hasAnnotation(cd, fqn)) {
+                cd = template(fqn, ctx).apply(
+                        visitor.updateCursor(cd),
+                        cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
+            }
+        }
+        return cd;
+    }
+
+    /**
+     * Adds the Spring Boot test annotations for the given rules to every class it visits.
+     *
+     * @deprecated The recipe now adds the annotations while visiting the class it removes the rules from.
+     */
+    @Deprecated
     @RequiredArgsConstructor
     public static class AddSpringBootTestAnnotationVisitor extends JavaIsoVisitor<ExecutionContext> {
 
         private final Set<String> foundRules;
 
         @Override
-        public J.ClassDeclaration visitClassDeclaration(
-                J.ClassDeclaration classDecl, ExecutionContext ctx) {
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
-
-            // If we already have a Spring test annotation that sets the extension, no need to re-add
-            boolean hasSpringExtension =
-                    hasAnnotation(cd, SPRING_BOOT_TEST) ||
-                            hasAnnotation(cd, DATA_JPA_TEST) ||
-                            hasAnnotation(cd, WEB_MVC_TEST);
-
-            if (hasSpringExtension) {
-                return cd;
-            }
-
-            maybeAddImport(SPRING_BOOT_TEST);
-            maybeAddImport(AUTO_CONFIGURE_MOCK_MVC);
-            maybeAddImport(DATA_JPA_TEST);
-            maybeAddImport(WEB_MVC_TEST);
-
-            // Determine which annotations we need based on the rules found
-            Set<String> annotationSet = determineAnnotations(foundRules);
-
-            // Apply each annotation
-            for (String fqn : annotationSet) {
-                if (!hasAnnotation(cd, getSimpleName(fqn))) {
-                    JavaTemplate template =
-                            JavaTemplate.builder("@" + getSimpleNameWithParams(fqn))
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "spring-boot-test-2.*", "spring-boot-test-autoconfigure-2.*"))
-                                    .imports(SPRING_BOOT_TEST, AUTO_CONFIGURE_MOCK_MVC, DATA_JPA_TEST, WEB_MVC_TEST)
-                                    .build();
-                    cd =
-                            template.apply(
-                                    updateCursor(cd),
-                                    cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
-                }
-            }
-
-            return cd;
+            return addTestAnnotations(this, cd, foundRules, ctx);
         }
+    }
 
-        private boolean hasAnnotation(J.ClassDeclaration cd, String fqn) {
-            return cd.getLeadingAnnotations().stream()
-                    .anyMatch(a -> a.getSimpleName().equals(getSimpleName(fqn)));
-        }
+    private static JavaTemplate template(String fqn, ExecutionContext ctx) {
+        return TemplateCache.get(ctx, DropwizardRulesJUnit4ToSpringBoot.class, fqn, () -> JavaTemplate.builder("@" + getSimpleNameWithParams(fqn))
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "spring-boot-test-2.*", "spring-boot-test-autoconfigure-2.*"))
+                .imports(SPRING_BOOT_TEST, AUTO_CONFIGURE_MOCK_MVC, DATA_JPA_TEST, WEB_MVC_TEST)
+                .build());
+    }
+
+    private static boolean hasAnnotation(J.ClassDeclaration cd, String fqn) {
+        return cd.getLeadingAnnotations().stream()
+                .anyMatch(a -> a.getSimpleName().equals(getSimpleName(fqn)));
     }
 }
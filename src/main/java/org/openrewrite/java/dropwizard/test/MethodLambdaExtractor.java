@@ -17,9 +17,12 @@ package org.openrewrite.java.dropwizard.test;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -48,28 +51,34 @@ public class MethodLambdaExtractor extends Recipe {
     String displayName = "Extract lambda expressions";
     String description = "Extracts the body of lambda expressions and inlines them into the surrounding code.";
 
-    private boolean shouldExtractMethodInvocation(J.MethodInvocation methodInvocation) {
-        return new MethodMatcher(matchingPattern).matches(methodInvocation);
-    }
-
-    private boolean shouldExtractLambda(J.VariableDeclarations varDecl) {
-        return varDecl.getVariables().stream()
-                .map(J.VariableDeclarations.NamedVariable::getInitializer)
-                .filter(J.MethodInvocation.class::isInstance)
-                .map(J.MethodInvocation.class::cast)
-                .anyMatch(this::shouldExtractMethodInvocation);
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
+    /**
+     * The simple method name of the matching pattern, or {@code null} when it contains a wildcard.
+     * Cheaper to compare than running the full matcher on every statement.
+     */
+    private static @Nullable String methodName(String matchingPattern) {
+        int nameStart = matchingPattern.indexOf(' ') + 1;
+        int nameEnd = matchingPattern.indexOf('(');
+        if (nameStart == 0 || nameEnd < nameStart) {
+            return null;
+        }
+        String name = matchingPattern.substring(nameStart, nameEnd).trim();
+        return name.contains("*") ? null : name;
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        MethodMatcher matcher = new MethodMatcher(matchingPattern);
+        String methodName = methodName(matchingPattern);
+        return RecipeVisitors.of(this, stats,
                 new UsesType<>(preconditionType, true),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodDeclaration visitMethodDeclaration(
                             J.MethodDeclaration method, ExecutionContext ctx) {
                         J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
-                        if (md.getBody() == null) {
+                        if (md.getBody() == null || md.getBody().getStatements().stream().noneMatch(this::isExtractable)) {
                             return md;
                         }
 
@@ -89,6 +98,28 @@ public class MethodLambdaExtractor extends Recipe {
                                 method, md.withBody(md.getBody().withStatements(updatedStatements)), ctx);
                     }
 
+                    private boolean isExtractable(Statement stmt) {
+                        if (stmt instanceof J.MethodInvocation) {
+                            return shouldExtractMethodInvocation((J.MethodInvocation) stmt);
+                        }
+                        return stmt instanceof J.VariableDeclarations && shouldExtractLambda((J.VariableDeclarations) stmt);
+                    }
+
+                    private boolean shouldExtractMethodInvocation(J.MethodInvocation methodInvocation) {
+                        return (methodName == null || methodName.equals(methodInvocation.getSimpleName())) &&
+                                matcher.matches(methodInvocation);
+                    }
+
+                    private boolean shouldExtractLambda(J.VariableDeclarations varDecl) {
+                        for (J.VariableDeclarations.NamedVariable variable : varDecl.getVariables()) {
+                            if (variable.getInitializer() instanceof J.MethodInvocation &&
+                                    shouldExtractMethodInvocation((J.MethodInvocation) variable.getInitializer())) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+
                     private void processMethodInvocationStatement(
                             J.MethodInvocation methodInv, List<Statement> updatedStatements) {
                         boolean handled = false;
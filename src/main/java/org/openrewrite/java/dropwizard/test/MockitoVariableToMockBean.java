@@ -24,6 +24,9 @@ import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.tree.J;
 
 import java.util.Arrays;
@@ -43,9 +46,11 @@ public class MockitoVariableToMockBean extends Recipe {
 
     String description = "Converts static final Mockito mock fields to Spring Boot @MockBean fields.";
 
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MockitoToMockBeanVisitor();
+        return RecipeVisitors.of(this, stats, new MockitoToMockBeanVisitor());
     }
 
     public static class MockitoToMockBeanVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -87,10 +92,10 @@ public class MockitoVariableToMockBean extends Recipe {
                         .withVariables(variables);
 
                 // Add @MockBean using JavaTemplate
-                JavaTemplate template = JavaTemplate.builder("@MockBean")
+                JavaTemplate template = TemplateCache.get(ctx, MockitoVariableToMockBean.class, "@MockBean", () -> JavaTemplate.builder("@MockBean")
                         .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "spring-boot-test-2.*"))
                         .imports(MOCKITO_MOCK_BEAN)
-                        .build();
+                        .build());
                 modified = template.apply(
                         updateCursor(modified),
                         modified.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
@@ -86,7 +86,7 @@ public class RestTemplateCallBuilder implements DropwizardToSpringCallBuilder {
     }
 
     private String buildUrlTemplate(ParsedCall callInfo) {
-        return String.format("\"%s\"", callInfo.getPath());
+        return callInfo.getPathInfo().getExpression();
     }
 
     private String buildHttpEntity(ParsedCall callInfo) {
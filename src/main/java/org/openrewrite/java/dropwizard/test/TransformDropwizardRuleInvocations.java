@@ -20,10 +20,15 @@ import lombok.Value;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.dropwizard.general.RecipeVisitors;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
+import org.openrewrite.java.dropwizard.test.DropwizardCallParser.TemplateParameters;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -35,30 +40,27 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = false)
 public class TransformDropwizardRuleInvocations extends Recipe {
 
+    private static final DropwizardToSpringCallBuilder CALL_BUILDER = new RestTemplateCallBuilder();
+
+    private static final String PARSER = TransformDropwizardRuleInvocations.class.getName() + ".parser";
+
+    private static final List<MethodMatcher> REST_CALL_MATCHERS = Arrays.asList(
+            new MethodMatcher("io.dropwizard.testing.junit.ResourceTestRule target(..)"),
+            new MethodMatcher("io.dropwizard.testing.junit.DropwizardAppRule client(..)")
+    );
+
     String displayName = "Convert dropwizard appRule to restTemplate";
 
     String description = "Transforms Dropwizard AppRule testing calls to their equivalent RestTemplate calls.";
 
-    private DropwizardToSpringCallBuilder getCallBuilder() {
-        return new RestTemplateCallBuilder();
-    }
-
-    private List<MethodMatcher> getRestCallMatchers() {
-        return Arrays.asList(
-                new MethodMatcher("io.dropwizard.testing.junit.ResourceTestRule target(..)"),
-                new MethodMatcher("io.dropwizard.testing.junit.DropwizardAppRule client(..)")
-        );
-    }
+    transient DropwizardRecipeStats stats = new DropwizardRecipeStats(this);
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaVisitor<ExecutionContext>() {
-
-            private boolean methodProcessed;
+        return RecipeVisitors.of(this, stats, new JavaVisitor<ExecutionContext>() {
 
             @Override
             public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
-                methodProcessed = false;
                 J.VariableDeclarations varDecls =
                         (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
 
@@ -72,8 +74,6 @@ public class TransformDropwizardRuleInvocations extends Recipe {
                     return varDecls;
                 }
 
-                methodProcessed = true;
-
                 addImports();
                 removeImports();
 
@@ -83,13 +83,13 @@ public class TransformDropwizardRuleInvocations extends Recipe {
 
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                // If we already processed a relevant call or we are inside a variable decl, skip
-                if (methodProcessed || getCursor().firstEnclosing(J.VariableDeclarations.class) != null) {
+                // Calls inside a variable declaration are handled by visitVariableDeclarations. The calls
+                // in the chain of a matched call are never visited, as this does not descend into them.
+                if (getCursor().firstEnclosing(J.VariableDeclarations.class) != null) {
                     return method;
                 }
 
                 if (isRuleRESTCall(method)) {
-                    methodProcessed = true;
                     removeImports();
                     addImports();
 
@@ -101,20 +101,16 @@ public class TransformDropwizardRuleInvocations extends Recipe {
 
 
             private void removeImports() {
-                DropwizardToSpringCallBuilder builder = getCallBuilder();
-
-                for (String requiredImport : builder.getImportsToRemove()) {
+                for (String requiredImport : CALL_BUILDER.getImportsToRemove()) {
                     maybeRemoveImport(requiredImport);
                 }
             }
 
             private void addImports() {
-                DropwizardToSpringCallBuilder builder = getCallBuilder();
-
-                for (String requiredImport : builder.getImports()) {
+                for (String requiredImport : CALL_BUILDER.getImports()) {
                     maybeAddImport(requiredImport);
                 }
-                for (String requiredStaticImport : builder.getStaticImports()) {
+                for (String requiredStaticImport : CALL_BUILDER.getStaticImports()) {
                     maybeAddImport(requiredStaticImport);
                 }
             }
@@ -132,7 +128,7 @@ public class TransformDropwizardRuleInvocations extends Recipe {
                 Expression curr = method;
                 while (curr instanceof J.MethodInvocation) {
                     J.MethodInvocation mi = (J.MethodInvocation) curr;
-                    for (MethodMatcher mm : getRestCallMatchers()) {
+                    for (MethodMatcher mm : REST_CALL_MATCHERS) {
                         if (mm.matches(mi)) {
                             return true;
                         }
@@ -147,35 +143,48 @@ public class TransformDropwizardRuleInvocations extends Recipe {
                         original.getMethodType().getReturnType() :
                         null;
 
-                String snippet = getCallBuilder()
-                        .buildMethod(DropwizardCallParser.parse(original, getCursor()), returnType);
+                TemplateParameters parameters = new TemplateParameters();
+                String snippet = CALL_BUILDER
+                        .buildMethod(DropwizardCallParser.parse(original, getCursor(), parameters), returnType);
 
-                return JavaTemplate.builder(snippet)
-                        .contextSensitive()
-                        .imports(getCallBuilder().getImports())
-                        .staticImports(getCallBuilder().getStaticImports())
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "spring-web-5.*", "spring-core-5.*"))
-                        .build()
-                        .apply(updateCursor(original), original.getCoordinates().replace());
+                return template(ctx, parameters.template(snippet))
+                        .apply(updateCursor(original), original.getCoordinates().replace(), parameters.of(snippet));
             }
 
             private J transformVariableDeclaration(ExecutionContext ctx, J.VariableDeclarations varDecls, J.MethodInvocation original) {
                 JavaType varType = varDecls.getType();
 
-                DropwizardCallParser.ParsedCall info = DropwizardCallParser.parse(original, getCursor());
+                TemplateParameters parameters = new TemplateParameters();
+                DropwizardCallParser.ParsedCall info = DropwizardCallParser.parse(original, getCursor(), parameters);
+
+                String variableInitializer = CALL_BUILDER.buildMethod(info, varType);
+                // The name is substituted as text, so calls assigned to differently named variables share a template
+                String variableDeclaration = CALL_BUILDER.buildVariable(varDecls.withVariables(ListUtils.mapFirst(
+                        varDecls.getVariables(), v -> v.withName(v.getName().withSimpleName(
+                                parameters.add(v.getSimpleName(), ""))))), varType);
 
-                String variableInitializer = getCallBuilder().buildMethod(info, varType);
-                String variableDeclaration = getCallBuilder().buildVariable(varDecls, varType);
+                String snippet = String.format("%s = %s", variableDeclaration, variableInitializer);
+                return template(ctx, parameters.template(snippet))
+                        .apply(updateCursor(varDecls), varDecls.getCoordinates().replace(), parameters.of(snippet));
+            }
 
-                return JavaTemplate.builder(String.format("%s = %s", variableDeclaration, variableInitializer))
-                        .contextSensitive()
-                        .imports(getCallBuilder().getImports())
-                        .staticImports(getCallBuilder().getStaticImports())
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "spring-web-5.*", "spring-core-5.*"))
-                        .build()
-                        .apply(updateCursor(varDecls), varDecls.getCoordinates().replace());
+            /**
+             * The arguments of the call are template parameters, so the calls of the same shape, with the same
+             * HTTP method, headers and types, share a template.
+             */
+            private JavaTemplate template(ExecutionContext ctx, String code) {
+                return TemplateCache.get(ctx, TransformDropwizardRuleInvocations.class, code, () -> {
+                    JavaParser.Builder<?, ?> parser = ctx.computeMessageIfAbsent(PARSER, k -> JavaParser.fromJavaVersion()
+                            .classpathFromResources(ctx, "spring-web-5.*", "spring-core-5.*"));
+                    return JavaTemplate.builder(code)
+                            .contextSensitive()
+                            .imports(CALL_BUILDER.getImports())
+                            .staticImports(CALL_BUILDER.getStaticImports())
+                            .javaParser(parser)
+                            .build();
+                });
             }
-        };
+        });
     }
 
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.annotation.AddClassAnnotationsByRules;
+import org.openrewrite.java.dropwizard.general.RemoveMethodsByPackage;
+import org.openrewrite.java.dropwizard.general.RemoveVariablesByPackage;
+import org.openrewrite.java.dropwizard.method.ChangeSuperType;
+import org.openrewrite.java.dropwizard.method.RemoveSuperTypeByType;
+import org.openrewrite.java.dropwizard.method.RemoveUnnecessaryOverride;
+import org.openrewrite.java.dropwizard.method.RemoveUnnecessarySuperCalls;
+import org.openrewrite.java.dropwizard.table.DropwizardRecipeStats;
+import org.openrewrite.java.dropwizard.test.DropwizardRulesJUnit4ToSpringBoot;
+import org.openrewrite.java.dropwizard.test.MethodLambdaExtractor;
+import org.openrewrite.java.dropwizard.test.MockitoVariableToMockBean;
+import org.openrewrite.java.dropwizard.test.TransformDropwizardRuleInvocations;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each recipe once sequentially over all generated sources, so that one visitor sees every file,
+ * and then concurrently: once with every source file in its own run on a fork-join pool, so that many
+ * visitors share the recipe and its static state, and once with a few large source sets sharing one
+ * execution context, so that the templates and statistics kept in it are used from several threads.
+ * All must produce the same result for every file. It runs over 40 files by default, and over more when
+ * given the number of files, e.g. {@code ./gradlew test -PparallelExecutionTest.files=1000}.
+ */
+class ParallelExecutionTest {
+
+    private static final int FILES = Integer.getInteger("parallelExecutionTest.files", 40);
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static List<SourceFile> sources = List.of();
+
+    @BeforeAll
+    static void generateSources() {
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            sources.add(switch (i % 4) {
+                case 0 -> healthCheck(i);
+                case 1 -> ruleTest(i);
+                case 2 -> application(i);
+                default -> plain(i);
+            });
+        }
+        ParallelExecutionTest.sources = JavaParser.fromJavaVersion()
+          .classpath(JavaParser.runtimeClasspath())
+          .logCompilationWarningsAndErrors(false)
+          .build()
+          .parse(new InMemoryExecutionContext(), sources.toArray(new String[0]))
+          .collect(toList());
+    }
+
+    static Stream<Recipe> recipes() {
+        return Stream.of(
+          new AddClassAnnotationsByRules(
+            List.of("io.dropwizard.Application=org.springframework.boot.autoconfigure.SpringBootApplication"),
+            List.of("java.lang.Deprecated=org.springframework.stereotype.Component"),
+            null),
+          new ChangeSuperType("com.codahale.metrics.health.HealthCheck",
+            "org.springframework.boot.actuate.health.HealthIndicator", false, true, true),
+          new RemoveSuperTypeByType("io.dropwizard.Application"),
+          new RemoveUnnecessaryOverride(false),
+          new RemoveUnnecessarySuperCalls(),
+          new RemoveMethodsByPackage("io.dropwizard"),
+          new RemoveVariablesByPackage("io.dropwizard", false),
+          new DropwizardRulesJUnit4ToSpringBoot(),
+          new TransformDropwizardRuleInvocations(),
+          new MockitoVariableToMockBean(),
+          new MethodLambdaExtractor("io.dropwizard.testing.junit.DAOTestRule", "*..DAOTestRule inTransaction(..)")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("recipes")
+    void parallelRunMatchesSequentialRun(Recipe recipe) throws Exception {
+        Map<Path, String> sequential = results(recipe, sources);
+
+        ForkJoinPool pool = new ForkJoinPool(THREADS);
+        try {
+            Map<Path, String> parallel = pool.submit(() -> sources.parallelStream()
+              .flatMap(sourceFile -> results(recipe, singletonList(sourceFile), newContext(recipe), new ArrayList<>()).entrySet().stream())
+              .collect(toMap(Map.Entry::getKey, Map.Entry::getValue))).get();
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("recipes")
+    void sharedContextRunMatchesSequentialRun(Recipe recipe) throws Exception {
+        Map<Path, String> sequential = results(recipe, sources);
+
+        ExecutionContext ctx = newContext(recipe);
+        Queue<RecipeRun> recipeRuns = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        System.setProperty(DropwizardRecipeStats.ENABLED_PROPERTY, "true");
+        try {
+            List<Future<Map<Path, String>>> runs = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                List<SourceFile> chunk = new ArrayList<>();
+                for (int j = i; j < sources.size(); j += THREADS) {
+                    chunk.add(sources.get(j));
+                }
+                runs.add(executor.submit(() -> results(recipe, chunk, ctx, recipeRuns)));
+            }
+            Map<Path, String> shared = new HashMap<>();
+            for (Future<Map<Path, String>> run : runs) {
+                shared.putAll(run.get());
+            }
+            assertThat(shared).isEqualTo(sequential);
+        } finally {
+            System.clearProperty(DropwizardRecipeStats.ENABLED_PROPERTY);
+            executor.shutdown();
+        }
+
+        // every visit of a source file is counted once, however many threads share the context
+        Set<DropwizardRecipeStats.Row> stats = new HashSet<>();
+        for (RecipeRun run : recipeRuns) {
+            List<DropwizardRecipeStats.Row> rows = run.getDataTableRows(DropwizardRecipeStats.class.getName());
+            if (rows != null) {
+                stats.addAll(rows);
+            }
+        }
+        Map<String, List<Integer>> invocations = stats.stream()
+          .collect(groupingBy(row -> row.getRecipe() + ' ' + row.getSourcePath(),
+            mapping(DropwizardRecipeStats.Row::getVisitorInvocations, toList())));
+        assertThat(invocations).allSatisfy((visit, counts) ->
+          assertThat(counts).as(visit).containsExactlyInAnyOrderElementsOf(
+            IntStream.rangeClosed(1, counts.size()).boxed().collect(toList())));
+    }
+
+    private static Map<Path, String> results(Recipe recipe, List<SourceFile> before) {
+        return results(recipe, before, newContext(recipe), new ArrayList<>());
+    }
+
+    private static Map<Path, String> results(Recipe recipe, List<SourceFile> before, ExecutionContext ctx,
+                                             Collection<RecipeRun> recipeRuns) {
+        Map<Path, String> results = before.stream()
+          .collect(toMap(SourceFile::getSourcePath, SourceFile::printAll));
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(before), ctx);
+        for (Result result : run.getChangeset().getAllResults()) {
+            if (result.getBefore() != null) {
+                results.put(result.getBefore().getSourcePath(), result.getAfter() == null ? "" : result.getAfter().printAll());
+            }
+        }
+        recipeRuns.add(run);
+        return results;
+    }
+
+    private static ExecutionContext newContext(Recipe recipe) {
+        return new InMemoryExecutionContext(t -> {
+            throw new AssertionError("Recipe " + recipe.getName() + " failed", t);
+        });
+    }
+
+    private static String healthCheck(int i) {
+        return """
+          package com.example.health;
+
+          import com.codahale.metrics.health.HealthCheck;
+
+          public class Check%1$d extends HealthCheck {
+              public Check%1$d() {
+                  super();
+              }
+
+              @Override
+              protected Result check() {
+                  return Result.healthy();
+              }
+
+              @Override
+              public String toString() {
+                  return super.toString();
+              }
+          }
+          """.formatted(i);
+    }
+
+    private static String ruleTest(int i) {
+        return """
+          package com.example.test;
+
+          import io.dropwizard.testing.junit.DropwizardAppRule;
+          import org.junit.ClassRule;
+          import org.junit.Test;
+          import org.mockito.Mockito;
+
+          public class Resource%1$dTest {
+              @ClassRule
+              public static final DropwizardAppRule<?> RULE = new DropwizardAppRule<>(null);
+
+              private static final Runnable RUNNABLE = Mockito.mock(Runnable.class);
+
+              @Test
+              public void get() {
+                  String first = RULE.client().target("http://localhost:" + RULE.getLocalPort() + "/items/%1$d")
+                          .request()
+                          .get(String.class);
+                  RULE.client().target("http://localhost:" + RULE.getLocalPort() + "/items")
+                          .request()
+                          .delete();
+              }
+          }
+          """.formatted(i);
+    }
+
+    private static String application(int i) {
+        return """
+          package com.example.app;
+
+          import io.dropwizard.Application;
+          import io.dropwizard.Configuration;
+          import io.dropwizard.setup.Environment;
+
+          public class App%1$d extends Application<Configuration> {
+              private Environment environment;
+
+              @Override
+              public void run(Configuration configuration, Environment environment) {
+                  this.environment = environment;
+              }
+          }
+          """.formatted(i);
+    }
+
+    private static String plain(int i) {
+        return """
+          package com.example.plain;
+
+          @Deprecated
+          public class Plain%1$d implements Runnable {
+              @Override
+              public void run() {
+                  Runnable nested = new Runnable() {
+                      @Override
+                      public void run() {
+                      }
+                  };
+                  nested.run();
+              }
+          }
+          """.formatted(i);
+    }
+}
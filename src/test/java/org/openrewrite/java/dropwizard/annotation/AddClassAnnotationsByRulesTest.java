@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class AddClassAnnotationsByRulesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion().classpath("javax.persistence-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void appliesAllMatchingRulesInOnePass() {
+        rewriteRun(
+          spec -> spec.recipe(new AddClassAnnotationsByRules(
+            List.of("java.io.Serializable=javax.persistence.Entity",
+              "java.io.Serializable=javax.persistence.Cacheable"),
+            null,
+            null)),
+          //language=java
+          java(
+            """
+              import java.io.Serializable;
+
+              public class Customer implements Serializable {
+                  private String name;
+              }
+              """,
+            """
+              import javax.persistence.Cacheable;
+              import javax.persistence.Entity;
+
+              import java.io.Serializable;
+
+              @Cacheable
+              @Entity
+              public class Customer implements Serializable {
+                  private String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void combinesSupertypeAndAnnotationRules() {
+        rewriteRun(
+          spec -> spec.recipe(new AddClassAnnotationsByRules(
+            List.of("java.util.AbstractList=javax.persistence.Entity"),
+            List.of("java.lang.Deprecated=javax.persistence.Cacheable"),
+            null)),
+          //language=java
+          java(
+            """
+              import java.util.AbstractList;
+
+              @Deprecated
+              public class CustomList extends AbstractList<String> {
+                  @Override
+                  public String get(int index) {
+                      return null;
+                  }
+
+                  @Override
+                  public int size() {
+                      return 0;
+                  }
+              }
+              """,
+            """
+              import javax.persistence.Cacheable;
+              import javax.persistence.Entity;
+
+              import java.util.AbstractList;
+
+              @Cacheable
+              @Deprecated
+              @Entity
+              public class CustomList extends AbstractList<String> {
+                  @Override
+                  public String get(int index) {
+                      return null;
+                  }
+
+                  @Override
+                  public int size() {
+                      return 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void annotatesInnerClassesOnlyWithSelectedAnnotations() {
+        rewriteRun(
+          spec -> spec.recipe(new AddClassAnnotationsByRules(
+            List.of("java.io.Serializable=javax.persistence.Entity",
+              "java.io.Serializable=javax.persistence.Embeddable"),
+            null,
+            List.of("javax.persistence.Embeddable"))),
+          //language=java
+          java(
+            """
+              import java.io.Serializable;
+
+              public class Customer implements Serializable {
+                  private Address address;
+
+                  public static class Address {
+                      private String street;
+                  }
+              }
+              """,
+            """
+              import javax.persistence.Embeddable;
+              import javax.persistence.Entity;
+
+              import java.io.Serializable;
+
+              @Embeddable
+              @Entity
+              public class Customer implements Serializable {
+                  private Address address;
+
+                  @Embeddable
+                  public static class Address {
+                      private String street;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doesNotDuplicateExistingAnnotation() {
+        rewriteRun(
+          spec -> spec.recipe(new AddClassAnnotationsByRules(
+            List.of("java.io.Serializable=javax.persistence.Entity"),
+            null,
+            null)),
+          //language=java
+          java(
+            """
+              import javax.persistence.Entity;
+
+              import java.io.Serializable;
+
+              @Entity
+              public class Customer implements Serializable {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rejectsMalformedRules() {
+        assertThat(new AddClassAnnotationsByRules(List.of("javax.persistence.Entity"), null, null)
+          .validate().isInvalid()).isTrue();
+    }
+}
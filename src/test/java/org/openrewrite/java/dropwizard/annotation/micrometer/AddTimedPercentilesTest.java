@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class AddTimedPercentilesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddTimedPercentiles(List.of(0.5, 0.99), true))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void addsPercentilesAndHistogram() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed("orders.place")
+                  void place() {
+                  }
+
+                  @Timed(value = "orders.cancel", description = "Cancelled orders")
+                  void cancel() {
+                  }
+
+                  @Timed
+                  void list() {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed(value = "orders.place", percentiles = {0.5, 0.99}, histogram = true)
+                  void place() {
+                  }
+
+                  @Timed(value = "orders.cancel", description = "Cancelled orders", percentiles = {0.5, 0.99}, histogram = true)
+                  void cancel() {
+                  }
+
+                  @Timed(percentiles = {0.5, 0.99}, histogram = true)
+                  void list() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addsDropwizardPercentilesToMigratedTimers() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.MigrateHealthChecksAndMetrics")
+            .parser(JavaParser.fromJavaVersion().classpath("metrics-annotation", "micrometer-core")),
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.annotation.Timed;
+
+              class OrderService {
+                  @Timed(name = "orders.place")
+                  void place() {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed(value = "orders.place", percentiles = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999})
+                  void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void histogramOnly() {
+        rewriteRun(
+          spec -> spec.recipe(new AddTimedPercentiles(null, true)),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed("orders.place")
+                  void place() {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed(value = "orders.place", histogram = true)
+                  void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsExplicitDistributionSettings() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class OrderService {
+                  @Timed(value = "orders.place", histogram = false)
+                  void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void requiresPercentilesOrHistogram() {
+        assertThat(new AddTimedPercentiles(null, false).validate().isValid()).isFalse();
+        assertThat(new AddTimedPercentiles(List.of(1.5), null).validate().isValid()).isFalse();
+        assertThat(new AddTimedPercentiles(List.of(0.99), null).validate().isValid()).isTrue();
+    }
+}
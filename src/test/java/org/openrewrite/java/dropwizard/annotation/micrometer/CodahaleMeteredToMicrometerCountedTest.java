@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.annotation.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CodahaleMeteredToMicrometerCountedTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new CodahaleMeteredToMicrometerCounted())
+          .parser(JavaParser.fromJavaVersion().classpath("metrics-annotation", "micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void transformsMeteredWithName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Metered;
+
+              class OrderResource {
+                  @Metered(name = "orders", absolute = true, description = "Orders placed")
+                  public void place() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.annotation.Counted;
+
+              class OrderResource {
+                  @Counted(value = "orders", description = "Orders placed")
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void transformsExceptionMeteredToFailuresOnly() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.ExceptionMetered;
+
+              class OrderResource {
+                  @ExceptionMetered(name = "orders.failed", cause = IllegalStateException.class)
+                  public void place() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.annotation.Counted;
+
+              class OrderResource {
+                  @Counted(value = "com.example.OrderResource.orders.failed", recordFailuresOnly = true)
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void transformsCounted() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Counted;
+
+              class OrderResource {
+                  @Counted(name = "orders.active", monotonic = true)
+                  public void place() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.annotation.Counted;
+
+              class OrderResource {
+                  @Counted("com.example.OrderResource.orders.active")
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void mergesExceptionMeteredIntoMetered() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.ExceptionMetered;
+              import com.codahale.metrics.annotation.Metered;
+
+              class OrderResource {
+                  @ExceptionMetered
+                  @Metered(name = "orders")
+                  public void place() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.annotation.Counted;
+
+              class OrderResource {
+                  @Counted("com.example.OrderResource.orders")
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void qualifiesNameConstants() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Metered;
+
+              class OrderResource {
+                  static final String ORDERS = "orders";
+
+                  @Metered(name = ORDERS)
+                  public void place() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.annotation.Counted;
+
+              class OrderResource {
+                  static final String ORDERS = "orders";
+
+                  @Counted("com.example.OrderResource." + ORDERS)
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksNonMonotonicCounted() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Counted;
+              import com.codahale.metrics.annotation.Metered;
+
+              class OrderResource {
+                  @Counted(name = "orders.active")
+                  public void place() {
+                  }
+
+                  @Metered(name = "orders.cancelled")
+                  public void cancel() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Counted;
+              import com.codahale.metrics.annotation.Metered;
+
+              class OrderResource {
+                  /*~~(Counts calls in progress, Micrometer @Counted only counts up)~~>*/@Counted(name = "orders.active")
+                  public void place() {
+                  }
+
+                  @Metered(name = "orders.cancelled")
+                  public void cancel() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksTypeLevelAnnotations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Metered;
+
+              @Metered
+              class OrderResource {
+              }
+              """,
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Metered;
+
+              /*~~(Micrometer @Counted can only annotate methods)~~>*/@Metered
+              class OrderResource {
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.config.MigrateServerConfiguration;
+import org.openrewrite.java.dropwizard.general.RemoveMethodsByPackage;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalCacheTest {
+
+    @TempDir
+    Path directory;
+
+    ExecutionContext ctx = new InMemoryExecutionContext();
+
+    @Test
+    void remembersUnchangedSourceFiles() throws Exception {
+        IncrementalCache cache = new IncrementalCache(directory, 10);
+        String key = IncrementalCache.key(IncrementalCache.recipeKey(new RemoveMethodsByPackage("io.dropwizard")), text("a = 1"), ctx);
+
+        assertThat(cache.isUnchanged(key)).isFalse();
+        cache.recordUnchanged(key);
+        assertThat(cache.isUnchanged(key)).isTrue();
+        assertThat(new IncrementalCache(directory, 10).isUnchanged(key)).isTrue();
+    }
+
+    @Test
+    void keyCoversContentAndRecipeOptions() {
+        String recipeKey = IncrementalCache.recipeKey(new RemoveMethodsByPackage("io.dropwizard"));
+        String key = IncrementalCache.key(recipeKey, text("a = 1"), ctx);
+
+        assertThat(IncrementalCache.key(recipeKey, text("a = 1"), ctx)).isEqualTo(key);
+        assertThat(IncrementalCache.key(recipeKey, text("a = 2"), ctx)).isNotEqualTo(key);
+        assertThat(IncrementalCache.key(IncrementalCache.recipeKey(new RemoveMethodsByPackage("com.codahale")), text("a = 1"), ctx))
+          .isNotEqualTo(key);
+    }
+
+    @Test
+    void keyCoversEditsToTheSameSourceFile() {
+        String recipeKey = IncrementalCache.recipeKey(new RemoveMethodsByPackage("io.dropwizard"));
+        PlainText before = text("a = 1");
+        String key = IncrementalCache.key(recipeKey, before, ctx);
+
+        assertThat(IncrementalCache.key(recipeKey, before.withText("a = 2"), ctx)).isNotEqualTo(key);
+        assertThat(IncrementalCache.key(recipeKey, before, ctx)).isEqualTo(key);
+    }
+
+    @Test
+    void keyCoversTypesInUse() {
+        String recipeKey = IncrementalCache.recipeKey(new RemoveMethodsByPackage("io.dropwizard"));
+        String source = "class A { p.Foo foo; }";
+        J.CompilationUnit attributed = java(JavaParser.fromJavaVersion().dependsOn("package p; public class Foo {}"), source);
+        J.CompilationUnit unattributed = java(JavaParser.fromJavaVersion(), source);
+
+        assertThat(IncrementalCache.key(recipeKey, attributed, ctx))
+          .isNotEqualTo(IncrementalCache.key(recipeKey, unattributed, ctx));
+    }
+
+    @Test
+    void doesNotSkipScanningRecipes() {
+        System.setProperty(IncrementalCache.DIRECTORY_PROPERTY, directory.toString());
+        try {
+            TreeVisitor<?, ExecutionContext> visitor = new TreeVisitor<>() {
+            };
+            assertThat(IncrementalCache.skipUnchanged(new MigrateServerConfiguration(), visitor)).isSameAs(visitor);
+            assertThat(IncrementalCache.skipUnchanged(new RemoveMethodsByPackage("io.dropwizard"), visitor)).isNotSameAs(visitor);
+        } finally {
+            System.clearProperty(IncrementalCache.DIRECTORY_PROPERTY);
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() throws Exception {
+        IncrementalCache cache = new IncrementalCache(directory, 10);
+        for (int i = 0; i < 10; i++) {
+            cache.recordUnchanged("entry" + i);
+            Files.setLastModifiedTime(directory.resolve("entry" + i), FileTime.fromMillis(1000L * (i + 1)));
+        }
+        assertThat(cache.isUnchanged("entry0")).isTrue();
+
+        cache.recordUnchanged("entry10");
+
+        assertThat(directory.resolve("entry0")).exists();
+        assertThat(directory.resolve("entry1")).doesNotExist();
+        assertThat(directory.resolve("entry2")).doesNotExist();
+        assertThat(directory.resolve("entry10")).exists();
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(9);
+        }
+    }
+
+    private static J.CompilationUnit java(JavaParser.Builder<?, ?> parser, String source) {
+        return parser.build()
+          .parse(source)
+          .map(J.CompilationUnit.class::cast)
+          .findFirst()
+          .orElseThrow();
+    }
+
+    private static PlainText text(String content) {
+        return PlainTextParser.builder().build()
+          .parse(content)
+          .map(PlainText.class::cast)
+          .findFirst()
+          .orElseThrow();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateDatabaseConfigurationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateDatabaseConfiguration());
+    }
+
+    @DocumentExample
+    @Test
+    void carriesPoolTuningOver() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getKey, UnmappedDropwizardConfiguration.Row::getReason)
+              .containsExactly(tuple("database.initialSize", "No HikariCP equivalent"))),
+          //language=yaml
+          yaml(
+            """
+              database:
+                driverClass: org.postgresql.Driver
+                user: orders
+                password: ${DB_PASSWORD:-secret}
+                url: jdbc:postgresql://db/orders
+                properties:
+                  charSet: UTF-8
+                  hibernate.dialect: org.hibernate.dialect.PostgreSQLDialect
+                initialSize: 8
+                maxSize: 64
+                minSize: 8
+                maxWaitForConnection: 5s
+                validationQuery: "/* Health Check */ SELECT 1"
+                evictionInterval: 1 minute
+                checkConnectionWhileIdle: true
+              server:
+                maxThreads: 1024
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              spring.datasource.driverClassName=org.postgresql.Driver
+              spring.datasource.username=orders
+              spring.datasource.password=${DB_PASSWORD:secret}
+              spring.datasource.url=jdbc:postgresql://db/orders
+              spring.datasource.hikari.data-source-properties.charSet=UTF-8
+              spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect
+              spring.datasource.hikari.maximum-pool-size=64
+              spring.datasource.hikari.minimum-idle=8
+              spring.datasource.hikari.connection-timeout=5000
+              spring.datasource.hikari.connection-test-query=/* Health Check */ SELECT 1
+              spring.datasource.hikari.keepalive-time=60000
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void reportsEvictionWithoutIdleChecks() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getKey)
+              .containsExactly("db.evictionInterval", "db.maxWaitForConnection")),
+          //language=yaml
+          yaml(
+            """
+              db:
+                driverClass: org.h2.Driver
+                evictionInterval: 10s
+                checkConnectionWhileIdle: false
+                maxWaitForConnection: ${WAIT}
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            """
+              spring.datasource.driverClassName=org.postgresql.Driver
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void ignoresConfigurationWithoutDataSource() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 1024
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateMaxQueuedRequestsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateMaxQueuedRequests())
+          .parser(JavaParser.fromJavaVersion().classpath("dropwizard-core"))
+          // Jetty 12 is not on the test classpath, so the registered handler is only partially typed
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void registersQoSHandler() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 256
+                maxQueuedRequests: 512
+              """,
+            spec -> spec.path("orders/config.yml")
+          ),
+          //language=java
+          java(
+            """
+              import io.dropwizard.Application;
+              import io.dropwizard.Configuration;
+              import io.dropwizard.setup.Environment;
+
+              public class OrdersApplication extends Application<Configuration> {
+                  @Override
+                  public void run(Configuration configuration, Environment environment) {
+                      environment.jersey().register(new Object());
+                  }
+              }
+              """,
+            """
+              import io.dropwizard.Application;
+              import io.dropwizard.Configuration;
+              import io.dropwizard.setup.Environment;
+              import org.eclipse.jetty.server.handler.QoSHandler;
+
+              public class OrdersApplication extends Application<Configuration> {
+                  @Override
+                  public void run(Configuration configuration, Environment environment) {
+                      environment.jersey().register(new Object());
+                      QoSHandler qosHandler = new QoSHandler();
+                      qosHandler.setMaxRequestCount(256);
+                      qosHandler.setMaxSuspendedRequestCount(512);
+                      environment.getApplicationContext().insertHandler(qosHandler);
+                  }
+              }
+              """,
+            spec -> spec.path("orders/src/main/java/OrdersApplication.java")
+          )
+        );
+    }
+
+    @Test
+    void reportsServicesWithoutApplication() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getReason)
+              .containsExactly("No Dropwizard Application found to register a QoSHandler in")),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxQueuedRequests: 512
+              """,
+            spec -> spec.path("billing/config.yml")
+          ),
+          //language=java
+          java(
+            """
+              import io.dropwizard.Application;
+              import io.dropwizard.Configuration;
+              import io.dropwizard.setup.Environment;
+
+              public class OrdersApplication extends Application<Configuration> {
+                  @Override
+                  public void run(Configuration configuration, Environment environment) {
+                  }
+              }
+              """,
+            spec -> spec.path("orders/src/main/java/OrdersApplication.java")
+          )
+        );
+    }
+
+    @Test
+    void reportsDifferentBoundsPerEnvironment() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getSourcePath, UnmappedDropwizardConfiguration.Row::getReason)
+              .containsExactlyInAnyOrder(
+                tuple("dev.yml", "Differs between the configuration files of the service"),
+                tuple("prod.yml", "Not a number, so the QoSHandler has to be configured by hand")
+              )),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxQueuedRequests: 16
+              """,
+            spec -> spec.path("dev.yml")
+          ),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxQueuedRequests: ${MAX_QUEUED_REQUESTS}
+              """,
+            spec -> spec.path("prod.yml")
+          ),
+          //language=java
+          java(
+            """
+              import io.dropwizard.Application;
+              import io.dropwizard.Configuration;
+              import io.dropwizard.setup.Environment;
+
+              public class OrdersApplication extends Application<Configuration> {
+                  @Override
+                  public void run(Configuration configuration, Environment environment) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/main/java/OrdersApplication.java")
+          )
+        );
+    }
+}
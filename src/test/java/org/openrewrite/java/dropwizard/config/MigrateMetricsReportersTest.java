@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateMetricsReportersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateMetricsReporters());
+    }
+
+    @DocumentExample
+    @Test
+    void carriesGraphiteReporterOver() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getKey, UnmappedDropwizardConfiguration.Row::getValue,
+                UnmappedDropwizardConfiguration.Row::getReason)
+              .containsExactly(
+                tuple("metrics.reporters[0].prefix", "orders", "No Spring Boot equivalent"),
+                tuple("metrics.reporters[1].type", "console", "No Micrometer registry in Spring Boot"),
+                tuple("metrics.reporters[2].type", "csv", "No Micrometer registry in Spring Boot")
+              )),
+          //language=yaml
+          yaml(
+            """
+              metrics:
+                frequency: 1 minute
+                reporters:
+                  - type: graphite
+                    host: ${GRAPHITE_HOST:-localhost}
+                    port: 2003
+                    prefix: orders
+                    transport: udp
+                    durationUnit: milliseconds
+                    rateUnit: seconds
+                    frequency: 10 seconds
+                  - type: console
+                    frequency: 5 minutes
+                  - type: csv
+                    file: /tmp/metrics
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              management.metrics.export.graphite.host=${GRAPHITE_HOST:localhost}
+              management.metrics.export.graphite.port=2003
+              management.metrics.export.graphite.protocol=UDP
+              management.metrics.export.graphite.duration-units=MILLISECONDS
+              management.metrics.export.graphite.rate-units=SECONDS
+              management.metrics.export.graphite.step=10s
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void usesSharedFrequency() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              metrics:
+                frequency: 30s
+                reporters:
+                  - type: graphite
+                    host: graphite.internal
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "management.metrics.export.graphite.host=graphite",
+            """
+              management.metrics.export.graphite.host=graphite
+              management.metrics.export.graphite.step=30s
+              management.metrics.export.graphite.port=2003
+              management.metrics.export.graphite.protocol=PLAINTEXT
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void keepsDropwizardGraphiteDefaults() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              metrics:
+                reporters:
+                  - type: graphite
+                    host: graphite.internal
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              management.metrics.export.graphite.host=graphite.internal
+              management.metrics.export.graphite.port=2003
+              management.metrics.export.graphite.protocol=PLAINTEXT
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void noReporters() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              metrics:
+                frequency: 1 minute
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void addsGraphiteRegistry() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.config.AddGraphiteRegistry"),
+          mavenProject("orders",
+            //language=yaml
+            yaml(
+              """
+                metrics:
+                  reporters:
+                    - type: graphite
+                      host: graphite.internal
+                """,
+              spec -> spec.path("config.yml")
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>orders</artifactId>
+                    <version>1.0-SNAPSHOT</version>
+                </project>
+                """,
+              spec -> spec.after(pom -> assertThat(pom)
+                .contains("<groupId>io.micrometer</groupId>")
+                .contains("<artifactId>micrometer-registry-graphite</artifactId>")
+                .actual())
+            )
+          )
+        );
+    }
+
+    @Test
+    void noGraphiteRegistryForOtherReporters() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.config.AddGraphiteRegistry"),
+          mavenProject("orders",
+            //language=yaml
+            yaml(
+              """
+                metrics:
+                  reporters:
+                    - type: console
+                """,
+              spec -> spec.path("config.yml")
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>orders</artifactId>
+                    <version>1.0-SNAPSHOT</version>
+                </project>
+                """
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.config;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.dropwizard.table.UnmappedDropwizardConfiguration;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateServerConfigurationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateServerConfiguration());
+    }
+
+    @DocumentExample
+    @Test
+    void carriesThreadPoolSettingsOver() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getKey, UnmappedDropwizardConfiguration.Row::getReason)
+              .containsExactly(
+                tuple("server.gzip.enabled", "No Spring Boot equivalent"),
+                tuple("server.applicationConnectors[1].port", "No Spring Boot equivalent")
+              )),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 1024
+                minThreads: 16
+                maxQueuedRequests: 512
+                idleThreadTimeout: 1 minute
+                gzip:
+                  enabled: false
+                applicationConnectors:
+                  - type: http
+                    port: ${PORT:-9090}
+                    acceptorThreads: 2
+                    selectorThreads: 4
+                  - type: https
+                    port: 8443
+                adminConnectors:
+                  - type: http
+                    port: 9091
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              server.jetty.threads.max=1024
+              server.jetty.threads.min=16
+              server.jetty.threads.max-queue-capacity=512
+              server.jetty.threads.idle-timeout=1m
+              server.port=${PORT:9090}
+              server.jetty.threads.acceptors=2
+              server.jetty.threads.selectors=4
+              management.server.port=9091
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void carriesPathsAndBindHostsOver() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows -> assertThat(rows).isEmpty()),
+          //language=yaml
+          yaml(
+            """
+              server:
+                applicationContextPath: /orders
+                rootPath: /api/*
+                adminContextPath: /admin/
+                applicationConnectors:
+                  - type: http
+                    port: 8080
+                    bindHost: 127.0.0.1
+                adminConnectors:
+                  - type: http
+                    port: 8081
+                    bindHost: ${ADMIN_HOST:-localhost}
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              server.servlet.context-path=/orders/api
+              management.server.base-path=/admin
+              server.port=8080
+              server.address=127.0.0.1
+              management.server.port=8081
+              management.server.address=${ADMIN_HOST:localhost}
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void servesSimpleServerFromRoot() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                type: simple
+                applicationContextPath: /
+                rootPath: /*
+                connector:
+                  type: http
+                  port: 8080
+                  bindHost: 0.0.0.0
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            """
+              spring.application.name=orders
+              server.port=8080
+              server.address=0.0.0.0
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void keepsExistingProperties() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                type: simple
+                connector:
+                  type: http
+                  port: 8080
+                  selectorThreads: 8
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "server.port=9000",
+            """
+              server.port=9000
+              server.jetty.threads.selectors=8
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void reportsUnparseableDurations() {
+        rewriteRun(
+          spec -> spec.dataTable(UnmappedDropwizardConfiguration.Row.class, rows ->
+            assertThat(rows)
+              .extracting(UnmappedDropwizardConfiguration.Row::getKey, UnmappedDropwizardConfiguration.Row::getValue)
+              .containsExactly(tuple("server.idleThreadTimeout", "${IDLE_TIMEOUT}"))),
+          //language=yaml
+          yaml(
+            """
+              server:
+                idleThreadTimeout: ${IDLE_TIMEOUT}
+              """,
+            spec -> spec.path("config.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void ignoresOtherModules() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 64
+              """,
+            spec -> spec.path("orders/config.yml")
+          ),
+          properties(
+            "spring.application.name=billing",
+            spec -> spec.path("billing/src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void ignoresOtherYaml() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              server:
+                url: https://mock.example.com
+                timeout: 30s
+              logging: true
+              """,
+            spec -> spec.path("mock-server.yml")
+          ),
+          properties(
+            "spring.application.name=orders",
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.general;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class FindDropwizardUsagesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindDropwizardUsages())
+          .parser(JavaParser.fromJavaVersion().classpath("dropwizard-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void marksOnlySourcesReferencingDropwizard() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.dropwizard.Configuration;
+
+              public class AppConfiguration extends Configuration {
+              }
+              """,
+            """
+              /*~~>*/import io.dropwizard.Configuration;
+
+              public class AppConfiguration extends Configuration {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              public class Plain {
+              }
+              """
+          ),
+          text(
+            "server.port=8080",
+            "~~>server.port=8080"
+          )
+        );
+    }
+
+    @Test
+    void marksNonJavaSourcesWithoutDropwizardSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class Plain {
+              }
+              """
+          ),
+          text(
+            "server.port=8080",
+            "~~>server.port=8080"
+          )
+        );
+    }
+
+    @Test
+    void doesNotGateNonDropwizardTriggers() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.MigrateResourcesToSpringJersey")
+            .parser(JavaParser.fromJavaVersion().classpath("javax.ws.rs-api"))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import javax.ws.rs.Path;
+
+              @Path("/people")
+              public class PeopleResource {
+              }
+              """,
+            """
+              import org.springframework.stereotype.Component;
+
+              import javax.ws.rs.Path;
+
+              @Component
+              @Path("/people")
+              public class PeopleResource {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void gatesDropwizardTestRules() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.test.MigrateDropwizardTestRules")
+            .parser(JavaParser.fromJavaVersion().classpath("mockito-core")),
+          //language=java
+          java(
+            """
+              import org.mockito.Mockito;
+
+              class PlainTest {
+                  private static final Runnable TASK = Mockito.mock(Runnable.class);
+              }
+              """
+          )
+        );
+    }
+}
@@ -17,10 +17,18 @@ package org.openrewrite.java.dropwizard.general;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class RemoveMethodsByPackageTest implements RewriteTest {
@@ -119,4 +127,134 @@ class RemoveMethodsByPackageTest implements RewriteTest {
               """
           ));
     }
+
+    @Test
+    void onlyChangesFilesUsingPackage() {
+        rewriteRun(
+          java(
+            """
+              package org.example;
+
+              import com.example.deprecated.OldType;
+
+              class UsesOldType {
+                  public OldType methodToRemove() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              class UsesOldType {
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              import java.util.List;
+
+              class Unrelated {
+                  public List<String> method(int param) {
+                      return null;
+                  }
+              }
+              """
+          ));
+    }
+
+    @Test
+    void onlyVisitsFilesUsingPackage() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+          .dependsOn(
+            """
+              package com.example.deprecated;
+              public class OldType {
+              }
+              """)
+          .build()
+          .parse(ctx,
+            """
+              package org.example;
+
+              import com.example.deprecated.OldType;
+
+              class UsesOldType {
+                  public OldType methodToRemove() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              class UsesUnresolvedType {
+                  public com.example.deprecated.Missing methodToRemove() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              class Unrelated {
+                  public String method() {
+                      return System.lineSeparator();
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              import java.util.List;
+
+              class AlsoUnrelated {
+                  public List<String> method(int param) {
+                      return null;
+                  }
+              }
+              """)
+          .toList();
+
+        TreeVisitor<?, ExecutionContext> precondition = RemoveMethodsByPackage.usesPackage("com.example.deprecated");
+        long visitedFiles = sourceFiles.stream()
+          .filter(sourceFile -> precondition.visit(sourceFile, ctx) != sourceFile)
+          .count();
+
+        assertThat(visitedFiles).isEqualTo(2);
+    }
+
+    @Test
+    void removesUnresolvedFullyQualifiedReturnType() {
+        rewriteRun(
+          spec -> spec.typeValidationOptions(TypeValidation.none()),
+          java(
+            """
+              package org.example;
+
+              class Test {
+                  public com.example.deprecated.Missing methodToRemove() {
+                      return null;
+                  }
+
+                  public String methodToKeep() {
+                      return "test";
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              class Test {
+
+                  public String methodToKeep() {
+                      return "test";
+                  }
+              }
+              """
+          ));
+    }
 }
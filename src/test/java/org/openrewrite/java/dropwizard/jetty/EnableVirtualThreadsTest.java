@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.jetty;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.version;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class EnableVirtualThreadsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EnableVirtualThreads());
+    }
+
+    @DocumentExample
+    @Test
+    void enablesVirtualThreadsOnJava21() {
+        rewriteRun(
+          //language=java
+          version(
+            java(
+              """
+                class App {
+                }
+                """
+            ),
+            21
+          ),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 1024
+                applicationConnectors:
+                  - type: http
+                    port: 8080
+              logging:
+                level: INFO
+              """,
+            """
+              server:
+                maxThreads: 1024
+                applicationConnectors:
+                  - type: http
+                    port: 8080
+                enableVirtualThreads: true
+              logging:
+                level: INFO
+              """,
+            spec -> spec.path("config.yml")
+          )
+        );
+    }
+
+    @Test
+    void keepsPlatformThreadsBelowJava21() {
+        rewriteRun(
+          //language=java
+          version(
+            java(
+              """
+                class App {
+                }
+                """
+            ),
+            17
+          ),
+          //language=yaml
+          yaml(
+            """
+              server:
+                maxThreads: 1024
+              """,
+            spec -> spec.path("config.yml")
+          )
+        );
+    }
+
+    @Test
+    void keepsExplicitSetting() {
+        rewriteRun(
+          //language=java
+          version(
+            java(
+              """
+                class App {
+                }
+                """
+            ),
+            21
+          ),
+          //language=yaml
+          yaml(
+            """
+              server:
+                enableVirtualThreads: false
+                maxThreads: 1024
+              """,
+            spec -> spec.path("config.yml")
+          )
+        );
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.jetty;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FindVirtualThreadPinningTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindVirtualThreadPinning())
+          .parser(JavaParser.fromJavaVersion().classpath("dropwizard-lifecycle", "javax.ws.rs-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void marksBlockingIoInSynchronizedBlock() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Paths;
+
+              @Path("/report")
+              public class ReportResource {
+                  private final Object lock = new Object();
+                  private int count;
+
+                  @GET
+                  public String get() throws IOException {
+                      synchronized (lock) {
+                          return new String(Files.readAllBytes(Paths.get("report.txt")));
+                      }
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public int count() {
+                      synchronized (lock) {
+                          return ++count;
+                      }
+                  }
+              }
+              """,
+            """
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Paths;
+
+              @Path("/report")
+              public class ReportResource {
+                  private final Object lock = new Object();
+                  private int count;
+
+                  @GET
+                  public String get() throws IOException {
+                      /*~~(Blocks while holding a monitor, which pins the carrier thread of a virtual thread)~~>*/synchronized (lock) {
+                          return new String(Files.readAllBytes(Paths.get("report.txt")));
+                      }
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public int count() {
+                      synchronized (lock) {
+                          return ++count;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksSynchronizedManagedMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.dropwizard.lifecycle.Managed;
+
+              public class Poller implements Managed {
+                  @Override
+                  public synchronized void start() throws Exception {
+                      Thread.sleep(1000);
+                  }
+
+                  @Override
+                  public void stop() {
+                  }
+              }
+              """,
+            """
+              import io.dropwizard.lifecycle.Managed;
+
+              public class Poller implements Managed {
+                  /*~~(Blocks while holding a monitor, which pins the carrier thread of a virtual thread)~~>*/@Override
+                  public synchronized void start() throws Exception {
+                      Thread.sleep(1000);
+                  }
+
+                  @Override
+                  public void stop() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoresOtherClasses() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class Cache {
+                  public synchronized void sleep() throws InterruptedException {
+                      Thread.sleep(1000);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
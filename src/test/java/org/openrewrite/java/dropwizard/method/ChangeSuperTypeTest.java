@@ -18,10 +18,14 @@ package org.openrewrite.java.dropwizard.method;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class ChangeSuperTypeTest implements RewriteTest {
@@ -111,6 +115,142 @@ class ChangeSuperTypeTest implements RewriteTest {
         );
     }
 
+    @Test
+    void buildsTemplateOncePerSupertype() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        rewriteRun(
+          spec -> spec.executionContext(ctx),
+          java(
+            """
+              package org.example;
+
+              public class OldParent {
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class NewParent {
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class Child extends OldParent {
+              }
+              """,
+            """
+              package org.example;
+
+              public class Child extends org.example.NewParent {
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class OtherChild extends OldParent {
+              }
+              """,
+            """
+              package org.example;
+
+              public class OtherChild extends org.example.NewParent {
+              }
+              """
+          )
+        );
+        assertThat(TemplateCache.built(ctx)).isEqualTo(1);
+    }
+
+    @Test
+    void cleansUpOnlyChangedNestedClasses() {
+        rewriteRun(
+          java(
+            """
+              package org.example;
+
+              public class OldParent {
+                  protected void doSomething() {}
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class NewParent {
+                  protected void doSomething() {}
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class OtherParent {
+                  protected void doSomething() {}
+              }
+              """
+          ),
+          java(
+            """
+              package org.example;
+
+              public class Checks {
+                  static class First extends OldParent {
+                      @Override
+                      protected void doSomething() {
+                          super.doSomething();
+                      }
+                  }
+
+                  static class Second extends OldParent {
+                      @Override
+                      protected void doSomething() {
+                          super.doSomething();
+                      }
+                  }
+
+                  static class Unrelated extends OtherParent {
+                      @Override
+                      protected void doSomething() {
+                          super.doSomething();
+                      }
+                  }
+              }
+              """,
+            """
+              package org.example;
+
+              public class Checks {
+                  static class First extends org.example.NewParent {
+                      protected void doSomething() {
+                      }
+                  }
+
+                  static class Second extends org.example.NewParent {
+                      protected void doSomething() {
+                      }
+                  }
+
+                  static class Unrelated extends OtherParent {
+                      @Override
+                      protected void doSomething() {
+                          super.doSomething();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void doesNotChangeWhenNotMatching() {
         rewriteRun(
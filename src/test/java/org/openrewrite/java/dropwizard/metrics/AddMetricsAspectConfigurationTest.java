@@ -0,0 +1,371 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class AddMetricsAspectConfigurationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddMetricsAspectConfiguration())
+          .parser(JavaParser.fromJavaVersion().classpath("dropwizard-core", "javax.ws.rs-api", "micrometer-core"))
+          // Spring and Micrometer AOP types are stubbed in the generated class
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    //language=java
+    private static final String APPLICATION = """
+      package com.example.orders;
+
+      import io.dropwizard.Application;
+      import io.dropwizard.Configuration;
+      import io.dropwizard.setup.Environment;
+
+      public class OrdersApplication extends Application<Configuration> {
+          @Override
+          public void run(Configuration configuration, Environment environment) {
+          }
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void registersAspectsForAnnotatedService() {
+        rewriteRun(
+          //language=java
+          java(APPLICATION),
+          //language=java
+          java(
+            """
+              package com.example.orders.service;
+
+              import io.micrometer.core.annotation.Timed;
+
+              public class OrderService {
+                  @Timed("orders.place")
+                  public void place() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example.orders;
+
+              import io.micrometer.core.aop.CountedAspect;
+              import io.micrometer.core.aop.TimedAspect;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.context.annotation.Bean;
+              import org.springframework.context.annotation.Configuration;
+
+              @Configuration
+              public class MetricsAspectConfiguration {
+
+                  @Bean
+                  public TimedAspect timedAspect(MeterRegistry registry) {
+                      return new TimedAspect(registry);
+                  }
+
+                  @Bean
+                  public CountedAspect countedAspect(MeterRegistry registry) {
+                      return new CountedAspect(registry);
+                  }
+              }
+              """,
+            spec -> spec.path("com/example/orders/MetricsAspectConfiguration.java")
+          )
+        );
+    }
+
+    @Test
+    void registersAspectsForCountedResource() {
+        rewriteRun(
+          //language=java
+          java(APPLICATION),
+          //language=java
+          java(
+            """
+              package com.example.orders.resources;
+
+              import io.micrometer.core.annotation.Counted;
+              import javax.ws.rs.POST;
+              import javax.ws.rs.Path;
+
+              @Path("/orders")
+              public class OrderResource {
+                  @POST
+                  @Counted("orders.created")
+                  public void create() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example.orders;
+
+              import io.micrometer.core.aop.CountedAspect;
+              import io.micrometer.core.aop.TimedAspect;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.context.annotation.Bean;
+              import org.springframework.context.annotation.Configuration;
+
+              @Configuration
+              public class MetricsAspectConfiguration {
+
+                  @Bean
+                  public TimedAspect timedAspect(MeterRegistry registry) {
+                      return new TimedAspect(registry);
+                  }
+
+                  @Bean
+                  public CountedAspect countedAspect(MeterRegistry registry) {
+                      return new CountedAspect(registry);
+                  }
+              }
+              """,
+            spec -> spec.path("com/example/orders/MetricsAspectConfiguration.java")
+          )
+        );
+    }
+
+    @Test
+    void addsAopStarterInSameRun() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.metrics.RegisterMetricsAspects"),
+          mavenProject("orders",
+            srcMainJava(
+              //language=java
+              java(APPLICATION),
+              //language=java
+              java(
+                """
+                  package com.example.orders.service;
+
+                  import io.micrometer.core.annotation.Timed;
+
+                  public class OrderService {
+                      @Timed("orders.place")
+                      public void place() {
+                      }
+                  }
+                  """
+              ),
+              //language=java
+              java(
+                null,
+                """
+                  package com.example.orders;
+
+                  import io.micrometer.core.aop.CountedAspect;
+                  import io.micrometer.core.aop.TimedAspect;
+                  import io.micrometer.core.instrument.MeterRegistry;
+                  import org.springframework.context.annotation.Bean;
+                  import org.springframework.context.annotation.Configuration;
+
+                  @Configuration
+                  public class MetricsAspectConfiguration {
+
+                      @Bean
+                      public TimedAspect timedAspect(MeterRegistry registry) {
+                          return new TimedAspect(registry);
+                      }
+
+                      @Bean
+                      public CountedAspect countedAspect(MeterRegistry registry) {
+                          return new CountedAspect(registry);
+                      }
+                  }
+                  """,
+                spec -> spec.path("com/example/orders/MetricsAspectConfiguration.java")
+              )
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>orders</artifactId>
+                    <version>1.0-SNAPSHOT</version>
+                </project>
+                """,
+              spec -> spec.after(pom -> assertThat(pom)
+                .contains("<groupId>org.springframework.boot</groupId>")
+                .contains("<artifactId>spring-boot-starter-aop</artifactId>")
+                .actual())
+            )
+          )
+        );
+    }
+
+    @Test
+    void registersAspectsForAnnotatedClass() {
+        rewriteRun(
+          //language=java
+          java(APPLICATION),
+          //language=java
+          java(
+            """
+              package com.example.orders.service;
+
+              import io.micrometer.core.annotation.Counted;
+
+              @Counted("orders")
+              public class OrderService {
+                  public void place() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example.orders;
+
+              import io.micrometer.core.aop.CountedAspect;
+              import io.micrometer.core.aop.TimedAspect;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.context.annotation.Bean;
+              import org.springframework.context.annotation.Configuration;
+
+              @Configuration
+              public class MetricsAspectConfiguration {
+
+                  @Bean
+                  public TimedAspect timedAspect(MeterRegistry registry) {
+                      return new TimedAspect(registry);
+                  }
+
+                  @Bean
+                  public CountedAspect countedAspect(MeterRegistry registry) {
+                      return new CountedAspect(registry);
+                  }
+              }
+              """,
+            spec -> spec.path("com/example/orders/MetricsAspectConfiguration.java")
+          )
+        );
+    }
+
+    @Test
+    void noAopStarterForTimedResources() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.java.dropwizard.metrics.RegisterMetricsAspects"),
+          mavenProject("orders",
+            srcMainJava(
+              //language=java
+              java(APPLICATION),
+              //language=java
+              java(
+                """
+                  package com.example.orders.resources;
+
+                  import io.micrometer.core.annotation.Timed;
+                  import javax.ws.rs.GET;
+                  import javax.ws.rs.Path;
+
+                  @Path("/orders")
+                  @Timed
+                  public class OrderResource {
+                      @GET
+                      @Timed("orders.list")
+                      public String list() {
+                          return "";
+                      }
+                  }
+                  """
+              )
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>orders</artifactId>
+                    <version>1.0-SNAPSHOT</version>
+                </project>
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void timedResourcesAreHandledByJersey() {
+        rewriteRun(
+          //language=java
+          java(APPLICATION),
+          //language=java
+          java(
+            """
+              package com.example.orders.resources;
+
+              import io.micrometer.core.annotation.Timed;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/orders")
+              public class OrderResource {
+                  @GET
+                  @Timed("orders.list")
+                  public String list() {
+                      return "";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noApplicationClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.orders.service;
+
+              import io.micrometer.core.annotation.Timed;
+
+              public class OrderService {
+                  @Timed("orders.place")
+                  public void place() {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
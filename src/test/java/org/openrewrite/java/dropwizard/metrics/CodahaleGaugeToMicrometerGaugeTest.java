@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CodahaleGaugeToMicrometerGaugeTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new CodahaleGaugeToMicrometerGauge())
+          .parser(JavaParser.fromJavaVersion().classpath("metrics-annotation", "spring-context"))
+          // Micrometer and Spring types are stubbed in the templates
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void registersGaugesAndMemoizesCachedGauges() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.CachedGauge;
+              import com.codahale.metrics.annotation.Gauge;
+              import org.springframework.stereotype.Component;
+
+              import java.util.concurrent.TimeUnit;
+
+              @Component
+              public class QueueStats {
+                  @Gauge(name = "queue.depth")
+                  public int depth() {
+                      return 0;
+                  }
+
+                  @CachedGauge(name = "pool.active", absolute = true, timeout = 30, timeoutUnit = TimeUnit.SECONDS)
+                  public long active() {
+                      return 0L;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.stereotype.Component;
+
+              import java.util.concurrent.TimeUnit;
+              import java.util.function.Supplier;
+
+              @Component
+              public class QueueStats {
+                  public int depth() {
+                      return 0;
+                  }
+
+                  public long active() {
+                      return 0L;
+                  }
+
+                  @Autowired
+                  void registerGauges(MeterRegistry registry) {
+                      Gauge.builder("com.example.QueueStats.queue.depth", this::depth).register(registry);
+                      Gauge.builder("pool.active", memoizeWithTimeout(this::active, 30, TimeUnit.SECONDS)).register(registry);
+                  }
+
+                  private static <T> Supplier<T> memoizeWithTimeout(Supplier<T> supplier, long timeout, TimeUnit unit) {
+                      long timeoutNanos = unit.toNanos(timeout);
+                      return new Supplier<T>() {
+                          private T value;
+                          private long expiresAt;
+                          private boolean loaded;
+
+                          @Override
+                          public synchronized T get() {
+                              long now = System.nanoTime();
+                              if (!loaded || now - expiresAt >= 0) {
+                                  value = supplier.get();
+                                  expiresAt = now + timeoutNanos;
+                                  loaded = true;
+                              }
+                              return value;
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void defaultsNameToQualifiedMember() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Gauge;
+              import org.springframework.stereotype.Service;
+
+              import java.util.concurrent.atomic.AtomicInteger;
+
+              @Service
+              public class ConnectionPool {
+                  @Gauge
+                  private final AtomicInteger active = new AtomicInteger();
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.beans.factory.annotation.Autowired;
+              import org.springframework.stereotype.Service;
+
+              import java.util.concurrent.atomic.AtomicInteger;
+
+              @Service
+              public class ConnectionPool {
+                  private final AtomicInteger active = new AtomicInteger();
+
+                  @Autowired
+                  void registerGauges(MeterRegistry registry) {
+                      Gauge.builder("com.example.ConnectionPool.active", () -> active).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksClassesThatAreNotBeans() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Gauge;
+
+              public class QueueStats {
+                  @Gauge(name = "queue.depth")
+                  public int depth() {
+                      return 0;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.beans.factory.annotation.Autowired;
+
+              /*~~(Gauges are only registered when this class is a Spring bean)~~>*/public class QueueStats {
+                  public int depth() {
+                      return 0;
+                  }
+
+                  @Autowired
+                  void registerGauges(MeterRegistry registry) {
+                      Gauge.builder("com.example.QueueStats.queue.depth", this::depth).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksGaugesOfClassesAlreadyRegistering() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Gauge;
+              import org.springframework.stereotype.Component;
+
+              @Component
+              public class QueueStats {
+                  @Gauge(name = "queue.depth")
+                  public int depth() {
+                      return 0;
+                  }
+
+                  void registerGauges() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.codahale.metrics.annotation.Gauge;
+              import org.springframework.stereotype.Component;
+
+              @Component
+              public class QueueStats {
+                  /*~~(The class already declares a registerGauges method)~~>*/@Gauge(name = "queue.depth")
+                  public int depth() {
+                      return 0;
+                  }
+
+                  void registerGauges() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksNonNumericGauge() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.annotation.Gauge;
+
+              public class BuildInfo {
+                  @Gauge(name = "build.version")
+                  public String version() {
+                      return "1.0";
+                  }
+              }
+              """,
+            """
+              import com.codahale.metrics.annotation.Gauge;
+
+              public class BuildInfo {
+                  /*~~(Micrometer gauges must return a number)~~>*/@Gauge(name = "build.version")
+                  public String version() {
+                      return "1.0";
+                  }
+              }
+              """
+          )
+        );
+    }
+}
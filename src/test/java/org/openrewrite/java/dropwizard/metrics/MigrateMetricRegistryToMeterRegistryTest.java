@@ -0,0 +1,356 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateMetricRegistryToMeterRegistryTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateMetricRegistryToMeterRegistry())
+          .parser(JavaParser.fromJavaVersion().classpath("metrics-core"))
+          // Micrometer types are stubbed in the templates
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void looksUpMetersOnceIntoFields() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+              import com.codahale.metrics.Timer;
+
+              public class OrderService {
+                  private final MetricRegistry metrics;
+
+                  public OrderService(MetricRegistry metrics) {
+                      this.metrics = metrics;
+                  }
+
+                  public void place(int items) {
+                      Timer.Context context = metrics.timer("orders.latency").time();
+                      metrics.meter("orders.placed").mark();
+                      metrics.counter("orders.pending").inc(items);
+                      metrics.histogram("orders.size").update(items);
+                      context.stop();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              public class OrderService {
+                  private final MeterRegistry metrics;
+                  private final Timer ordersLatencyTimer;
+                  private final Counter ordersPlacedCounter;
+                  private final Counter ordersPendingCounter;
+                  private final DistributionSummary ordersSizeSummary;
+
+                  public OrderService(MeterRegistry metrics) {
+                      this.metrics = metrics;
+                      this.ordersLatencyTimer = metrics.timer("orders.latency");
+                      this.ordersPlacedCounter = metrics.counter("orders.placed");
+                      this.ordersPendingCounter = metrics.counter("orders.pending");
+                      this.ordersSizeSummary = metrics.summary("orders.size");
+                  }
+
+                  public void place(int items) {
+                      Timer.Sample context = Timer.start(metrics);
+                      ordersPlacedCounter.increment();
+                      ordersPendingCounter.increment(items);
+                      ordersSizeSummary.record(items);
+                      context.stop(ordersLatencyTimer);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void looksUpMetersPerCallOnParameters() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Jobs {
+                  void run(MetricRegistry registry, String job, Runnable work) {
+                      registry.meter(MetricRegistry.name(Jobs.class, job, "runs")).mark();
+                      registry.timer("jobs." + job).time(work);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Jobs {
+                  void run(MeterRegistry registry, String job, Runnable work) {
+                      registry.counter(String.join(".", Jobs.class.getName(), job, "runs")).increment();
+                      registry.timer("jobs." + job).record(work);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void stopsTimedResourcesInFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+              import com.codahale.metrics.Timer;
+
+              class Reports {
+                  void generate(MetricRegistry metrics, String report) {
+                      try (Timer.Context context = metrics.timer("reports." + report).time()) {
+                          render(report);
+                      }
+                  }
+
+                  void render(String report) {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Reports {
+                  void generate(MeterRegistry metrics, String report) {
+                      Timer.Sample context = Timer.start(metrics);
+                      try {
+                          render(report);
+                      } finally {
+                          context.stop(metrics.timer("reports." + report));
+                      }
+                  }
+
+                  void render(String report) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void changesMeterFields() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.Meter;
+              import com.codahale.metrics.MetricRegistry;
+              import com.codahale.metrics.Timer;
+
+              public class Checkout {
+                  private final Meter requests;
+                  private final Timer latency;
+
+                  public Checkout(MetricRegistry metrics) {
+                      this.requests = metrics.meter("checkout.requests");
+                      this.latency = metrics.timer("checkout.latency");
+                  }
+
+                  public void pay() {
+                      requests.mark();
+                      try (Timer.Context context = latency.time()) {
+                          charge();
+                      }
+                  }
+
+                  private void charge() {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              public class Checkout {
+                  private final Counter requests;
+                  private final Timer latency;
+
+                  public Checkout(MeterRegistry metrics) {
+                      this.requests = metrics.counter("checkout.requests");
+                      this.latency = metrics.timer("checkout.latency");
+                  }
+
+                  public void pay() {
+                      requests.increment();
+                      Timer.Sample context = Timer.start();
+                      try {
+                          charge();
+                      } finally {
+                          context.stop(latency);
+                      }
+                  }
+
+                  private void charge() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksRegistryMethodsWithoutMicrometerEquivalent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.Gauge;
+              import com.codahale.metrics.MetricRegistry;
+
+              import java.util.Queue;
+
+              class QueueMetrics {
+                  private final MetricRegistry metrics = new MetricRegistry();
+
+                  void watch(Queue<String> queue) {
+                      metrics.register("queue.size", (Gauge<Integer>) queue::size);
+                      metrics.meter("queue.offers").mark();
+                  }
+
+                  int timers() {
+                      return metrics.getTimers().size();
+                  }
+              }
+              """,
+            """
+              import com.codahale.metrics.Gauge;
+              import com.codahale.metrics.MetricRegistry;
+
+              import java.util.Queue;
+
+              class QueueMetrics {
+                  private final MetricRegistry metrics = new MetricRegistry();
+
+                  void watch(Queue<String> queue) {
+                      /*~~(No Micrometer equivalent for MetricRegistry.register)~~>*/metrics.register("queue.size", (Gauge<Integer>) queue::size);
+                      metrics.meter("queue.offers").mark();
+                  }
+
+                  int timers() {
+                      return /*~~(No Micrometer equivalent for MetricRegistry.getTimers)~~>*/metrics.getTimers().size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void marksMetersPassedOn() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.Meter;
+              import com.codahale.metrics.MetricRegistry;
+
+              class Uploads {
+                  private final Meter uploads;
+
+                  Uploads(MetricRegistry metrics) {
+                      this.uploads = metrics.meter("uploads");
+                  }
+
+                  Meter uploads() {
+                      return uploads;
+                  }
+
+                  long count() {
+                      return uploads.getCount();
+                  }
+              }
+              """,
+            """
+              import com.codahale.metrics.Meter;
+              import com.codahale.metrics.MetricRegistry;
+
+              class Uploads {
+                  private final Meter uploads;
+
+                  Uploads(MetricRegistry metrics) {
+                      this.uploads = metrics.meter("uploads");
+                  }
+
+                  Meter uploads() {
+                      return /*~~(Codahale meter that is passed on)~~>*/uploads;
+                  }
+
+                  long count() {
+                      return /*~~(No Micrometer equivalent for Meter.getCount)~~>*/uploads.getCount();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void flagsDecrementedCountersWithoutMigratingTheFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class WorkQueue {
+                  private final MetricRegistry metrics = new MetricRegistry();
+
+                  void take() {
+                      metrics.counter("queue.size").dec();
+                  }
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class WorkQueue {
+                  private final MetricRegistry metrics = new MetricRegistry();
+
+                  void take() {
+                      /*~~(Micrometer counters only increase, use a gauge instead)~~>*/metrics.counter("queue.size").dec();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
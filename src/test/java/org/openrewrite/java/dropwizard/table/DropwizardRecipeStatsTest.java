@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.dropwizard.table;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.annotation.AddClassAnnotationsByRules;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class DropwizardRecipeStatsTest implements RewriteTest {
+
+    @BeforeEach
+    void enable() {
+        System.setProperty(DropwizardRecipeStats.ENABLED_PROPERTY, "true");
+    }
+
+    @AfterEach
+    void disable() {
+        System.clearProperty(DropwizardRecipeStats.ENABLED_PROPERTY);
+    }
+
+    @Test
+    void recordsOneRowPerSourceFileAndCycle() {
+        rewriteRun(
+          spec -> spec
+            .recipe(new AddClassAnnotationsByRules(List.of("java.io.Serializable=javax.persistence.Entity"), null, null))
+            .parser(JavaParser.fromJavaVersion().classpath("javax.persistence-api"))
+            .dataTable(DropwizardRecipeStats.Row.class, rows -> {
+                assertThat(rows)
+                  .allSatisfy(row -> {
+                      assertThat(row.getRecipe()).isEqualTo(AddClassAnnotationsByRules.class.getName());
+                      assertThat(row.getElapsedNanos()).isPositive();
+                  });
+                assertThat(rows)
+                  .extracting(DropwizardRecipeStats.Row::getSourcePath, DropwizardRecipeStats.Row::getCycle,
+                    DropwizardRecipeStats.Row::getVisitorInvocations)
+                  .containsExactlyInAnyOrder(
+                    tuple("Customer.java", 1, 1),
+                    tuple("Plain.java", 1, 1),
+                    tuple("Customer.java", 2, 2),
+                    tuple("Plain.java", 2, 2));
+                assertThat(rows)
+                  .filteredOn(row -> row.getTemplatesBuilt() > 0)
+                  .extracting(DropwizardRecipeStats.Row::getSourcePath, DropwizardRecipeStats.Row::getCycle)
+                  .containsExactly(tuple("Customer.java", 1));
+            }),
+          //language=java
+          java(
+            """
+              import java.io.Serializable;
+
+              public class Customer implements Serializable {
+              }
+              """,
+            """
+              import javax.persistence.Entity;
+
+              import java.io.Serializable;
+
+              @Entity
+              public class Customer implements Serializable {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              public class Plain {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void recordsNothingUnlessEnabled() {
+        System.clearProperty(DropwizardRecipeStats.ENABLED_PROPERTY);
+        TreeVisitor<?, ExecutionContext> visitor = new TreeVisitor<>() {
+        };
+
+        assertThat(new DropwizardRecipeStats(new AddClassAnnotationsByRules(null, null, null)).record(visitor))
+          .isSameAs(visitor);
+    }
+}
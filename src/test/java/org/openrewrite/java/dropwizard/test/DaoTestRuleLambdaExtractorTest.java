@@ -99,6 +99,43 @@ class DaoTestRuleLambdaExtractorTest implements RewriteTest {
           ));
     }
 
+    @Test
+    void leavesMethodsWithoutMatchUntouched() {
+        rewriteRun(
+          java(
+            """
+              import io.dropwizard.DaoTestRule;
+
+              class Test {
+                  private DaoTestRule daoTestRule;
+
+                  public void test() {
+                      String result = daoTestRule.inTransaction(() -> "test");
+                  }
+
+                  public void untouched() {
+                      String  result =   "kept as is";
+                  }
+              }
+              """,
+            """
+              import io.dropwizard.DaoTestRule;
+
+              class Test {
+                  private DaoTestRule daoTestRule;
+
+                  public void test() {
+                      String result = "test";
+                  }
+
+                  public void untouched() {
+                      String  result =   "kept as is";
+                  }
+              }
+              """
+          ));
+    }
+
     @Test
     void doNotTransformSimpleLambda() {
         rewriteRun(
@@ -186,6 +186,62 @@ class DropwizardRulesJUnit4ToSpringBootTest implements RewriteTest {
           ));
     }
 
+    @Test
+    void convertMultipleRulesWithOneAnnotation() {
+        rewriteRun(
+          spec ->
+            spec.parser(
+              JavaParser.fromJavaVersion()
+                .dependsOn(
+                  """
+                    package io.dropwizard;
+                    public class Configuration {}
+                    """,
+                  """
+                    package io.dropwizard.testing.junit;
+                    public class DropwizardAppRule<C extends io.dropwizard.Configuration> {
+                        public DropwizardAppRule(Object object) {}
+                    }
+                    """,
+                  """
+                    package io.dropwizard.testing.junit;
+                    public class DAOTestRule {
+                        public static DAOTestRule create() {
+                            return new DAOTestRule();
+                        }
+                    }
+                    """,
+                  "package org.junit; public @interface ClassRule {}",
+                  "package org.junit; public @interface Rule {}")),
+          java(
+            """
+              import io.dropwizard.testing.junit.DAOTestRule;
+              import io.dropwizard.testing.junit.DropwizardAppRule;
+              import org.junit.ClassRule;
+              import org.junit.Rule;
+
+              class MyAppTest {
+                  @ClassRule
+                  public static final DropwizardAppRule<?> RULE = new DropwizardAppRule<>(Object.class);
+
+                  @Rule
+                  public DAOTestRule database = DAOTestRule.create();
+
+                  // test methods...
+              }
+              """,
+            """
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+              class MyAppTest {
+
+                  // test methods...
+              }
+              """
+          ));
+    }
+
     @Test
     void convertDropwizardClientRule() {
         rewriteRun(
@@ -17,10 +17,14 @@ package org.openrewrite.java.dropwizard.test;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.dropwizard.general.TemplateCache;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class TransformDropwizardRuleInvocationsTest implements RewriteTest {
@@ -226,6 +230,118 @@ class TransformDropwizardRuleInvocationsTest implements RewriteTest {
               """));
     }
 
+    @Test
+    void shouldConvertCallAfterConvertedDeclaration() {
+        rewriteRun(java(
+          """
+            import io.dropwizard.testing.junit.DropwizardAppRule;
+            import org.springframework.web.client.RestTemplate;
+
+            class TestApi {
+                private final DropwizardAppRule<Object> RULE = new DropwizardAppRule<>(Object.class);
+                private final RestTemplate restTemplate = new RestTemplate();
+
+                void test() {
+                    Object people = RULE.client().target("http://localhost:8080/people")
+                        .request()
+                        .get(Object.class);
+                    RULE.client().target("http://localhost:8080/orders")
+                        .request()
+                        .get(Object.class);
+                }
+            }
+            """,
+          """
+            import io.dropwizard.testing.junit.DropwizardAppRule;
+            import org.springframework.http.HttpEntity;
+            import org.springframework.http.HttpHeaders;
+            import org.springframework.http.HttpMethod;
+            import org.springframework.http.MediaType;
+            import org.springframework.web.client.RestTemplate;
+
+            import java.util.Collections;
+
+            class TestApi {
+                private final DropwizardAppRule<Object> RULE = new DropwizardAppRule<>(Object.class);
+                private final RestTemplate restTemplate = new RestTemplate();
+
+                void test() {
+                    java.lang.Object people = restTemplate.exchange("/people", HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders() {
+                        {
+                            setContentType(MediaType.APPLICATION_JSON);
+                            setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+                        }
+                    }), java.lang.Object.class).getBody();
+                    restTemplate.exchange("/orders", HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders() {
+                        {
+                            setContentType(MediaType.APPLICATION_JSON);
+                            setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+                        }
+                    }), java.lang.Object.class).getBody();
+                }
+            }
+            """));
+    }
+
+    @Test
+    void sharesTemplateBetweenCallsOfTheSameShape() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        rewriteRun(
+          spec -> spec.executionContext(ctx),
+          java(
+            """
+              import io.dropwizard.testing.junit.DropwizardAppRule;
+              import org.springframework.web.client.RestTemplate;
+
+              class TestApi {
+                  private final DropwizardAppRule<Object> RULE = new DropwizardAppRule<>(Object.class);
+                  private final RestTemplate restTemplate = new RestTemplate();
+
+                  void test() {
+                      RULE.client().target("http://localhost:8080/people")
+                          .request()
+                          .get(Object.class);
+                      RULE.client().target("http://localhost:8080/orders")
+                          .request()
+                          .get(Object.class);
+                  }
+              }
+              """,
+            """
+              import io.dropwizard.testing.junit.DropwizardAppRule;
+              import org.springframework.http.HttpEntity;
+              import org.springframework.http.HttpHeaders;
+              import org.springframework.http.HttpMethod;
+              import org.springframework.http.MediaType;
+              import org.springframework.web.client.RestTemplate;
+
+              import java.util.Collections;
+
+              class TestApi {
+                  private final DropwizardAppRule<Object> RULE = new DropwizardAppRule<>(Object.class);
+                  private final RestTemplate restTemplate = new RestTemplate();
+
+                  void test() {
+                      restTemplate.exchange("/people", HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders() {
+                          {
+                              setContentType(MediaType.APPLICATION_JSON);
+                              setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+                          }
+                      }), java.lang.Object.class).getBody();
+                      restTemplate.exchange("/orders", HttpMethod.GET, new HttpEntity<>(null, new HttpHeaders() {
+                          {
+                              setContentType(MediaType.APPLICATION_JSON);
+                              setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+                          }
+                      }), java.lang.Object.class).getBody();
+                  }
+              }
+              """
+          )
+        );
+        assertThat(TemplateCache.built(ctx)).isEqualTo(1);
+    }
+
     @Test
     void shouldConvertGenericTypeToParametrized() {
         rewriteRun(java(